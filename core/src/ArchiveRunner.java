@@ -0,0 +1,95 @@
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.Random;
+
+/**
+ * Converts a recording into a {@link ReplayArchive} and measures seeking in it.
+ * Usage: {@code ArchiveRunner <recording> <archive> [keyframeInterval] [seeks]}, run from the project
+ * root so {@code res/} resolves. Before timing, every tick is checked to give the same world when
+ * reached by seeking as when replayed from the start.
+ */
+public class ArchiveRunner {
+    private static final int DEFAULT_SEEKS = 1000;
+    private static final int SNAPSHOT_BYTES = 1 << 16;
+
+    /**
+     * Writes the archive, checks it against a straight replay, and prints its size and seek times.
+     *
+     * @param args The recording to read, the archive to write, and optionally the keyframe interval
+     *             and the number of random seeks to time
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: ArchiveRunner <recording> <archive> [keyframeInterval] [seeks]");
+            System.exit(-1);
+        }
+        InputRecording recording = InputRecording.load(new File(args[0]));
+        File file = new File(args[1]);
+        int interval = args.length > 2 ? Integer.parseInt(args[2]) : ReplayArchive.DEFAULT_KEYFRAME_INTERVAL;
+        int seeks = args.length > 3 ? Integer.parseInt(args[3]) : DEFAULT_SEEKS;
+        Properties gameProps = IOUtils.readPropertiesFile("res/app.properties");
+        if (InputRecording.configHash(gameProps) != recording.getConfigHash()) {
+            System.err.println("Recording was made with a different configuration");
+            System.exit(-1);
+        }
+
+        // 1) Write the archive and map it back in
+        ReplayArchive.write(recording, gameProps, file, interval);
+        ReplayArchive archive = ReplayArchive.open(file);
+        if (archive.getSeed() != recording.getSeed()) {
+            throw new IllegalStateException("Archive has seed " + archive.getSeed()
+                    + ", recording has seed " + recording.getSeed());
+        }
+        System.out.printf("%s: %d ticks, seed %d, %d keyframes every %d ticks, %d bytes%n", file,
+                archive.getTickCount(), archive.getSeed(), archive.getKeyframeCount(), archive.getKeyframeInterval(),
+                archive.getByteSize());
+
+        // 2) Seeking to each tick must match replaying up to it, both in worlds with the recorded seed
+        GameWorld replayed = new GameWorld(gameProps, archive.getLevelNumber(), archive.getSeed());
+        GameWorld seeked = new GameWorld(gameProps, archive.getLevelNumber(), archive.getSeed());
+        ByteBuffer expected = ByteBuffer.allocate(SNAPSHOT_BYTES);
+        ByteBuffer actual = ByteBuffer.allocate(SNAPSHOT_BYTES);
+        int tick = 0;
+        for (int run = 0; run < recording.getRunCount(); run++) {
+            for (int i = 0; i < recording.getRunLength(run); i++) {
+                checkSeek(archive, replayed, seeked, tick, expected, actual);
+                replayed.step(recording.getRunInput(run));
+                tick++;
+            }
+        }
+        checkSeek(archive, replayed, seeked, tick, expected, actual);
+
+        // 3) Time seeks to random ticks
+        Random random = new Random(42);
+        long[] nanos = new long[seeks];
+        for (int i = 0; i < seeks; i++) {
+            int target = random.nextInt(archive.getTickCount() + 1);
+            long start = System.nanoTime();
+            archive.seek(seeked, target);
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        System.out.printf("%d seeks: median %.3f ms, worst %.3f ms%n",
+                seeks, nanos[seeks / 2] / 1e6, nanos[seeks - 1] / 1e6);
+    }
+
+    /**
+     * Seeks one world to a tick and compares its snapshot with that of a world replayed up to it.
+     */
+    private static void checkSeek(ReplayArchive archive, GameWorld replayed, GameWorld seeked, int tick,
+                                  ByteBuffer expected, ByteBuffer actual) {
+        archive.seek(seeked, tick);
+        expected.clear();
+        actual.clear();
+        replayed.snapshot(expected);
+        seeked.snapshot(actual);
+        expected.flip();
+        actual.flip();
+        if (!expected.equals(actual)) {
+            throw new IllegalStateException("Seeking to tick " + tick + " does not match the replay");
+        }
+    }
+}
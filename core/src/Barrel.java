@@ -0,0 +1,170 @@
+import java.nio.ByteBuffer;
+
+/**
+ * Represents a barrel in the game, moved by the {@link PhysicsWorld} under gravity until it lands on a platform.
+ * The barrel can be destroyed, at which point it will no longer be drawn or interact with the environment.
+ */
+public class Barrel implements Collider, EntityStore.Bodied, EntityStore.Member, Snapshottable {
+    public static final String BARREL_IMAGE = "res/barrel.png";
+    private final double HEIGHT;
+    private boolean isDestroyed = false;
+
+    // Position and velocity are owned by the physics world; x never changes, only relying on falling
+    private final PhysicsWorld physics;
+    private final int body;
+
+    // The store holding the barrel, which drops it once destroyed
+    private EntityStore store;
+    private int handle = EntityStore.NO_HANDLE;
+
+    /**
+     * Constructs a new Barrel at the specified starting position.
+     *
+     * @param startX The initial x-coordinate of the barrel.
+     * @param startY The initial y-coordinate of the barrel.
+     * @param physics The physics world that moves the barrel.
+     */
+    public Barrel(double startX, double startY, PhysicsWorld physics) {
+        this.HEIGHT = Sprites.getHeight(BARREL_IMAGE);
+        this.physics = physics;
+        this.body = physics.addBody(PhysicsWorld.BARREL, startX, startY, Sprites.getWidth(BARREL_IMAGE), HEIGHT);
+    }
+
+    /**
+     * Gets the handle of the barrel's body in the physics world.
+     *
+     * @return The body handle
+     */
+    @Override
+    public int getBody() {
+        return body;
+    }
+
+    /**
+     * Remembers the store holding the barrel and its handle there.
+     *
+     * @param store  The store holding the barrel
+     * @param handle The barrel's handle
+     */
+    @Override
+    public void attach(EntityStore store, int handle) {
+        this.store = store;
+        this.handle = handle;
+    }
+
+    @Override
+    public void detach() {
+        isDestroyed = true;
+        handle = EntityStore.NO_HANDLE;
+    }
+
+    /**
+     * Creates and returns the barrel's bounding box for collision detection.
+     *
+     * @return A {@link BoundingBox} representing the barrel's bounding box.
+     *         If the barrel is destroyed, returns an off-screen bounding box.
+     */
+    @Override
+    public BoundingBox getBoundingBox() {
+        if (isDestroyed) {
+            return BoundingBox.NONE; // Off-screen if destroyed
+        }
+        return physics.getBoundingBox(body);
+    }
+
+    /**
+     * Marks the barrel as destroyed, preventing it from being drawn or moved,
+     * and removes it from the store.
+     */
+    public void destroy() {
+        isDestroyed = true;
+        physics.setActive(body, false);
+        if (store != null) {
+            store.remove(handle);
+        }
+        System.out.println("Barrel destroyed!");
+    }
+
+    /**
+     * Checks if the barrel has been destroyed.
+     *
+     * @return {@code true} if the barrel is destroyed, {@code false} otherwise.
+     */
+    public boolean isDestroyed() {
+        return isDestroyed;
+    }
+
+    /**
+     * Writes whether the barrel is destroyed; its position is part of the physics world's state.
+     *
+     * @param out The buffer to write to
+     */
+    @Override
+    public void writeState(ByteBuffer out) {
+        out.put((byte) (isDestroyed ? 1 : 0));
+    }
+
+    /**
+     * Reads back whether the barrel is destroyed.
+     *
+     * @param in The buffer to read from
+     */
+    @Override
+    public void readState(ByteBuffer in) {
+        isDestroyed = in.get() != 0;
+    }
+
+    /**
+     * Gets the barrel's collision layer.
+     *
+     * @return {@link CollisionLayers#BARREL}
+     */
+    @Override
+    public int getCollisionLayer() {
+        return CollisionLayers.BARREL;
+    }
+
+    /**
+     * Gets the path of the sprite the barrel is drawn with.
+     *
+     * @return The sprite path
+     */
+    @Override
+    public String getSpritePath() {
+        return BARREL_IMAGE;
+    }
+
+    /**
+     * Checks if the barrel can still be hit.
+     *
+     * @return true until the barrel is destroyed
+     */
+    @Override
+    public boolean isCollidable() {
+        return !isDestroyed;
+    }
+
+    /**
+     * Retrieves the barrel's height.
+     *
+     * @return The height of the barrel sprite.
+     */
+    public double getHeight() {
+        return HEIGHT;
+    }
+
+    /**
+     * Gets the x-coordinate of the barrel.
+     *
+     * @return The current x-coordinate of the barrel.
+     */
+    public double getX() { return physics.getX(body); }
+
+    /**
+     * Gets the y-coordinate of the barrel.
+     *
+     * @return The current y-coordinate of the barrel.
+     */
+    public double getY() { return physics.getY(body); }
+
+}
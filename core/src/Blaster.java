@@ -1,12 +1,10 @@
-import bagel.*;
-
 /**
  * Represents a blaster that can be collected by Mario.
  * The blaster allows Mario to shoot bullets when collected.
  */
 public class Blaster extends Collectible {
     // Sprite image
-    private static final Image BLASTER_IMAGE = new Image("res/blaster.png");
+    private static final String BLASTER_IMAGE = "res/blaster.png";
 
     /**
      * Creates a new blaster at the specified position.
@@ -19,12 +17,12 @@ public class Blaster extends Collectible {
     }
 
     /**
-     * Gets the blaster image.
+     * Gets the path of the blaster image.
      *
-     * @return The blaster image
+     * @return The blaster image path
      */
     @Override
-    protected Image getCollectibleImage() {
+    protected String getCollectibleImage() {
         return BLASTER_IMAGE;
     }
 
@@ -0,0 +1,88 @@
+/**
+ * An axis-aligned rectangle used for collision detection in the simulation.
+ * The box is stored as four primitive edges so overlap tests only read doubles.
+ * Entities own one box each and refresh it in place when they move, so querying
+ * a bounding box never allocates.
+ */
+public class BoundingBox {
+    /**
+     * A zero-sized box far off screen, used by destroyed or collected objects.
+     * It overlaps nothing and must not be modified.
+     */
+    public static final BoundingBox NONE = new BoundingBox(-1000, -1000, 0, 0);
+
+    private double left;
+    private double top;
+    private double right;
+    private double bottom;
+
+    /**
+     * Creates an empty bounding box at the origin, to be filled in with {@link #set}.
+     */
+    public BoundingBox() {
+    }
+
+    /**
+     * Creates a bounding box from its top-left corner and size.
+     *
+     * @param left   The x-coordinate of the left edge
+     * @param top    The y-coordinate of the top edge
+     * @param width  The width of the box
+     * @param height The height of the box
+     */
+    public BoundingBox(double left, double top, double width, double height) {
+        set(left, top, width, height);
+    }
+
+    /**
+     * Moves and resizes this box in place.
+     *
+     * @param left   The x-coordinate of the left edge
+     * @param top    The y-coordinate of the top edge
+     * @param width  The width of the box
+     * @param height The height of the box
+     */
+    public void set(double left, double top, double width, double height) {
+        this.left = left;
+        this.top = top;
+        this.right = left + width;
+        this.bottom = top + height;
+    }
+
+    /**
+     * Moves and resizes this box in place from a center point and size.
+     *
+     * @param centreX The x-coordinate of the center
+     * @param centreY The y-coordinate of the center
+     * @param width   The width of the box
+     * @param height  The height of the box
+     */
+    public void setCentred(double centreX, double centreY, double width, double height) {
+        set(centreX - width / 2, centreY - height / 2, width, height);
+    }
+
+    public double left() { return left; }
+    public double right() { return right; }
+    public double top() { return top; }
+    public double bottom() { return bottom; }
+
+    /**
+     * Checks if this box overlaps another box. Boxes that only share an edge do not overlap.
+     *
+     * @param other The other bounding box
+     * @return true if the boxes overlap, false otherwise
+     */
+    public boolean intersects(BoundingBox other) {
+        return intersects(left, top, right, bottom, other.left, other.top, other.right, other.bottom);
+    }
+
+    /**
+     * Checks if two boxes given by their edges overlap. Boxes that only share an edge do not overlap.
+     *
+     * @return true if the boxes overlap, false otherwise
+     */
+    public static boolean intersects(double left1, double top1, double right1, double bottom1,
+                                     double left2, double top2, double right2, double bottom2) {
+        return left1 < right2 && right1 > left2 && top1 < bottom2 && bottom1 > top2;
+    }
+}
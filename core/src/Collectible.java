@@ -1,11 +1,10 @@
-import bagel.*;
-import bagel.util.Rectangle;
+import java.nio.ByteBuffer;
 
 /**
  * Abstract base class for collectible items that can be picked up by Mario.
  * Provides common functionality for positioning, collection state, and collision detection.
  */
-public abstract class Collectible {
+public abstract class Collectible implements EntityStore.Member, Snapshottable {
     // Position - private to enforce encapsulation
     private final double x;
     private final double y;
@@ -13,8 +12,16 @@ public abstract class Collectible {
     // State - private to enforce encapsulation
     private boolean isCollected = false;
 
+    // Collectibles never move, so the box is filled in once on first use
+    private final BoundingBox bounds = new BoundingBox();
+    private boolean boundsDirty = true;
+
+    // The store holding the collectible, which drops it once collected
+    private EntityStore store;
+    private int handle = EntityStore.NO_HANDLE;
+
     // Abstract methods to be implemented by subclasses
-    protected abstract Image getCollectibleImage();
+    protected abstract String getCollectibleImage();
     protected abstract String getCollectibleName();
 
     /**
@@ -30,20 +37,41 @@ public abstract class Collectible {
     }
 
     /**
-     * Draws the collectible on screen if it has not been collected.
+     * Gets the path of the sprite used to draw this collectible.
+     *
+     * @return The sprite path
      */
-    public void draw() {
-        if (!isCollected()) {
-            getCollectibleImage().draw(getX(), getY());
-        }
+    public String getSpritePath() {
+        return getCollectibleImage();
+    }
+
+    /**
+     * Remembers the store holding the collectible and its handle there.
+     *
+     * @param store  The store holding the collectible
+     * @param handle The collectible's handle
+     */
+    @Override
+    public void attach(EntityStore store, int handle) {
+        this.store = store;
+        this.handle = handle;
+    }
+
+    @Override
+    public void detach() {
+        setCollected(true);
+        handle = EntityStore.NO_HANDLE;
     }
 
     /**
-     * Marks the collectible as collected.
+     * Marks the collectible as collected and removes it from the store.
      */
     public void collect() {
         System.out.println(getCollectibleName() + " at (" + getX() + "," + getY() + ") collected!");
         setCollected(true);
+        if (store != null) {
+            store.remove(handle);
+        }
     }
 
     /**
@@ -64,6 +92,26 @@ public abstract class Collectible {
         this.isCollected = collected;
     }
 
+    /**
+     * Writes whether the collectible has been collected.
+     *
+     * @param out The buffer to write to
+     */
+    @Override
+    public void writeState(ByteBuffer out) {
+        out.put((byte) (isCollected ? 1 : 0));
+    }
+
+    /**
+     * Reads back whether the collectible has been collected.
+     *
+     * @param in The buffer to read from
+     */
+    @Override
+    public void readState(ByteBuffer in) {
+        isCollected = in.get() != 0;
+    }
+
     /**
      * Checks if the collectible is active (not collected).
      *
@@ -76,20 +124,18 @@ public abstract class Collectible {
     /**
      * Gets the bounding box of the collectible for collision detection.
      *
-     * @return A Rectangle representing the collectible's bounding box
+     * @return A BoundingBox representing the collectible's bounding box
      */
-    public Rectangle getBoundingBox() {
+    public BoundingBox getBoundingBox() {
         if (isCollected()) {
-            return new Rectangle(-1000, -1000, 0, 0); // Move off-screen if collected
+            return BoundingBox.NONE; // Move off-screen if collected
         }
 
-        Image image = getCollectibleImage();
-        return new Rectangle(
-                getX() - image.getWidth() / 2,
-                getY() - image.getHeight() / 2,
-                image.getWidth(),
-                image.getHeight()
-        );
+        if (boundsDirty) {
+            bounds.setCentred(getX(), getY(), getWidth(), getHeight());
+            boundsDirty = false;
+        }
+        return bounds;
     }
 
     /**
@@ -116,7 +162,7 @@ public abstract class Collectible {
      * @return The width
      */
     public double getWidth() {
-        return getCollectibleImage().getWidth();
+        return Sprites.getWidth(getCollectibleImage());
     }
 
     /**
@@ -125,6 +171,6 @@ public abstract class Collectible {
      * @return The height
      */
     public double getHeight() {
-        return getCollectibleImage().getHeight();
+        return Sprites.getHeight(getCollectibleImage());
     }
 }
\ No newline at end of file
@@ -0,0 +1,35 @@
+/**
+ * An entity that takes part in collision checks.
+ * Each entity type declares which {@link CollisionLayers} layer it belongs to,
+ * and the layer masks decide which pairs of entities are ever tested.
+ */
+public interface Collider {
+    /**
+     * Gets the collision layer of this entity.
+     *
+     * @return One of the layer constants in {@link CollisionLayers}
+     */
+    int getCollisionLayer();
+
+    /**
+     * Gets the bounding box used for collision checks.
+     *
+     * @return The entity's bounding box
+     */
+    BoundingBox getBoundingBox();
+
+    /**
+     * Gets the path of the sprite the entity is currently drawn with, whose alpha channel
+     * gives its pixel-accurate collision mask.
+     *
+     * @return The sprite path
+     */
+    String getSpritePath();
+
+    /**
+     * Checks if the entity can currently collide with anything.
+     *
+     * @return false once the entity has been destroyed or defeated, true otherwise
+     */
+    boolean isCollidable();
+}
@@ -0,0 +1,83 @@
+/**
+ * The collision layers of every entity type and the masks saying which layers can touch.
+ * Pairs of layers that cannot touch are skipped before any objects are looked at,
+ * so adding an entity type only needs a new layer and its entries in the mask table.
+ */
+public final class CollisionLayers {
+    public static final int MARIO = 0;
+    public static final int BARREL = 1;
+    public static final int DONKEY = 2;
+    public static final int NORMAL_MONKEY = 3;
+    public static final int INTELLIGENT_MONKEY = 4;
+    public static final int BULLET = 5;
+    public static final int BANANA = 6;
+
+    /**
+     * The number of layers.
+     */
+    public static final int COUNT = 7;
+
+    // Per layer, a bit for each layer it can touch
+    private static final int[] MASK = new int[COUNT];
+
+    static {
+        allow(MARIO, BARREL);
+        allow(MARIO, DONKEY);
+        allow(MARIO, NORMAL_MONKEY);
+        allow(MARIO, INTELLIGENT_MONKEY);
+        allow(MARIO, BANANA);
+        allow(BULLET, DONKEY);
+        allow(BULLET, NORMAL_MONKEY);
+        allow(BULLET, INTELLIGENT_MONKEY);
+    }
+
+    private CollisionLayers() {
+    }
+
+    /**
+     * Lets two layers touch, in both directions.
+     */
+    private static void allow(int layerA, int layerB) {
+        MASK[layerA] |= bit(layerB);
+        MASK[layerB] |= bit(layerA);
+    }
+
+    /**
+     * Gets the mask bit of a layer.
+     *
+     * @param layer The layer
+     * @return The layer's bit
+     */
+    public static int bit(int layer) {
+        return 1 << layer;
+    }
+
+    /**
+     * Gets the layers a layer can touch.
+     *
+     * @param layer The layer
+     * @return A mask with a bit set for each layer it can touch
+     */
+    public static int getMask(int layer) {
+        return MASK[layer];
+    }
+
+    /**
+     * Checks if two layers can touch.
+     *
+     * @return true if objects on the two layers are ever tested against each other, false otherwise
+     */
+    public static boolean canCollide(int layerA, int layerB) {
+        return (MASK[layerA] & bit(layerB)) != 0;
+    }
+
+    /**
+     * Gets the layer of a projectile kind.
+     *
+     * @param projectileKind {@link ProjectileSystem#BULLET} or {@link ProjectileSystem#BANANA}
+     * @return The projectile's layer
+     */
+    public static int ofProjectileKind(int projectileKind) {
+        return projectileKind == ProjectileSystem.BULLET ? BULLET : BANANA;
+    }
+}
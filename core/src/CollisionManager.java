@@ -0,0 +1,609 @@
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Collision manager that handles both Level 1 and Level 2.
+ * Every entity declares a {@link CollisionLayers} layer, and the layer masks decide which pairs
+ * of layers are ever tested, so a layer that cannot touch Mario or a projectile is skipped whole.
+ * The remaining pairs are dispatched through a table of handlers indexed by the two layers.
+ * The live colliders in the {@link EntityStore} are inserted into a uniform grid per layer once per tick,
+ * so Mario is only tested against the objects in the cells near him, and a {@link ContactCache}
+ * skips the ones that were far enough apart on an earlier tick that they cannot touch yet.
+ * Bananas and bullets are paired with the characters they can hit by a {@link SweepAndPrune}
+ * along x, and only those pairs are tested.
+ * Each tick runs in three phases: the candidate pairs are gathered, each pair is tested without
+ * changing anything, and the outcomes are applied one pair at a time in the order gathered.
+ * Only the tests run in parallel, and only when a tick has enough pairs to pay for it, so the
+ * outcome is the same however the tests were split.
+ * A box overlap that can hurt Mario, a monkey or Donkey is confirmed against the sprites' masks,
+ * so transparent corners of the images do not count as hits.
+ */
+public class CollisionManager {
+    // Score constants
+    private static final int BARREL_SCORE = 100;
+    private static final int BARREL_CROSS_SCORE = 30;
+    private static final int MONKEY_SCORE = 100;
+    private static final int INTEL_MONKEY_SCORE = 100;
+
+    // Side length of a broadphase grid cell, roughly the size of the largest sprite
+    private static final double GRID_CELL_SIZE = 64;
+
+    // Pair handlers, looked up by the layers of the two objects
+    private static final int NO_HANDLER = 0;
+    private static final int MARIO_BARREL = 1;
+    private static final int MARIO_DONKEY = 2;
+    private static final int MARIO_MONKEY = 3;
+    private static final int MARIO_BANANA = 4;
+    private static final int BULLET_DONKEY = 5;
+    private static final int BULLET_MONKEY = 6;
+
+    // Test outcomes for a pair, as bits
+    private static final int TOUCHING = 1;
+    private static final int JUMPED_OVER = 2;
+
+    // Fewest pairs a parallel task tests by itself without splitting further
+    private static final int MIN_PAIRS_PER_TASK = 256;
+    private static final int INITIAL_PAIR_CAPACITY = 16;
+
+    // The handler for each (mover, target) pair of layers, or NO_HANDLER
+    private static final int[][] PAIR_HANDLERS = new int[CollisionLayers.COUNT][CollisionLayers.COUNT];
+
+    static {
+        register(CollisionLayers.MARIO, CollisionLayers.BARREL, MARIO_BARREL);
+        register(CollisionLayers.MARIO, CollisionLayers.DONKEY, MARIO_DONKEY);
+        register(CollisionLayers.MARIO, CollisionLayers.NORMAL_MONKEY, MARIO_MONKEY);
+        register(CollisionLayers.MARIO, CollisionLayers.INTELLIGENT_MONKEY, MARIO_MONKEY);
+        register(CollisionLayers.BANANA, CollisionLayers.MARIO, MARIO_BANANA);
+        register(CollisionLayers.BULLET, CollisionLayers.DONKEY, BULLET_DONKEY);
+        register(CollisionLayers.BULLET, CollisionLayers.NORMAL_MONKEY, BULLET_MONKEY);
+        register(CollisionLayers.BULLET, CollisionLayers.INTELLIGENT_MONKEY, BULLET_MONKEY);
+    }
+
+    private final GameObjectManager gameObjects;
+    private final ScoreManager scoreManager;
+
+    // Pairs gathered in a tick before their tests are split across threads
+    private final int parallelThreshold;
+
+    // Reused every tick so checking collisions does not allocate
+    private final GameCollisionResult result = new GameCollisionResult();
+
+    // Broadphase grids covering the play area, one per layer, rebuilt once per tick
+    private final SpatialHash<Collider>[] grids;
+
+    // Entity ids: the area below Mario searched for barrels he jumps over has id 0,
+    // and every stored entity has its store slot plus one
+    private static final int MARIO_REACH_ENTITY = 0;
+    private int marioEntity;
+
+    // Per layer, the entity id of each object in the order it was inserted into the grid
+    private final int[][] gridEntities = new int[CollisionLayers.COUNT][INITIAL_PAIR_CAPACITY];
+
+    // Gaps between Mario and the entities near him, kept between ticks
+    private final ContactCache contacts = new ContactCache(INITIAL_PAIR_CAPACITY);
+
+    // Broadphase pairing projectiles with the characters they can hit, kept sorted between ticks
+    private final SweepAndPrune projectileSweep = new SweepAndPrune();
+
+    // Colliders projectiles can hit this tick, by store slot, which is also their sweep target id
+    private Collider[] targetColliders = new Collider[INITIAL_PAIR_CAPACITY];
+    private int[] targetSlots = new int[INITIAL_PAIR_CAPACITY];
+    private int targetCount = 0;
+
+    // Pairs gathered this tick: handler, Mario's entity id or the projectile's slot,
+    // the target and its entity id (or -1), and the test outcome bits
+    private int[] pairHandler = new int[INITIAL_PAIR_CAPACITY];
+    private int[] pairMover = new int[INITIAL_PAIR_CAPACITY];
+    private Collider[] pairTarget = new Collider[INITIAL_PAIR_CAPACITY];
+    private int[] pairTargetEntity = new int[INITIAL_PAIR_CAPACITY];
+    private int[] pairOutcome = new int[INITIAL_PAIR_CAPACITY];
+    private int pairCount = 0;
+
+    /**
+     * Creates a collision manager for a level's objects.
+     *
+     * @param gameObjects       The level's objects
+     * @param scoreManager      The score to add to
+     * @param parallelThreshold The number of pairs in a tick from which their tests run in parallel
+     */
+    public CollisionManager(GameObjectManager gameObjects, ScoreManager scoreManager, int parallelThreshold) {
+        this.gameObjects = gameObjects;
+        this.scoreManager = scoreManager;
+        this.parallelThreshold = parallelThreshold;
+
+        double width = gameObjects.getScreenWidth();
+        double height = gameObjects.getScreenHeight();
+        this.grids = newGrids(CollisionLayers.COUNT);
+        for (int layer = 0; layer < CollisionLayers.COUNT; layer++) {
+            grids[layer] = new SpatialHash<>(width, height, GRID_CELL_SIZE);
+        }
+    }
+
+    /**
+     * Creates an empty array of collider grids. Java cannot create an array of a generic type,
+     * so a wildcard array is cast; it only ever holds collider grids.
+     */
+    @SuppressWarnings("unchecked")
+    private static SpatialHash<Collider>[] newGrids(int count) {
+        return (SpatialHash<Collider>[]) new SpatialHash<?>[count];
+    }
+
+    /**
+     * Registers the handler for a pair of layers, which the layer masks must allow.
+     */
+    private static void register(int moverLayer, int targetLayer, int handler) {
+        if (!CollisionLayers.canCollide(moverLayer, targetLayer)) {
+            throw new IllegalStateException("Layers " + moverLayer + " and " + targetLayer + " cannot collide");
+        }
+        PAIR_HANDLERS[moverLayer][targetLayer] = handler;
+    }
+
+    /**
+     * Checks all collisions based on the current level.
+     *
+     * @return GameCollisionResult containing collision outcomes, valid until the next call
+     */
+    public GameCollisionResult checkAllCollisions() {
+        result.reset();
+        rebuildGrids();
+
+        // 1) Gather the pairs that may touch
+        pairCount = 0;
+        gatherMarioPairs();
+        if (gameObjects.isLevel2()) {
+            gatherProjectilePairs();
+        }
+
+        // 2) Test every pair, in parallel when there are enough of them. Boxes are refreshed
+        // first, since reading a stale one rewrites it and the tasks share them
+        gameObjects.getPhysics().refreshBounds();
+        if (pairCount >= parallelThreshold) {
+            ForkJoinPool.commonPool().invoke(new TestPairs(this, 0, pairCount));
+        } else {
+            testPairs(0, pairCount);
+        }
+
+        // 3) Apply the outcomes in the order the pairs were gathered
+        applyPairs(result);
+        return result;
+    }
+
+    /**
+     * Inserts every live, collidable entity into its layer's grid for this tick, records its box
+     * in the contact cache, and notes the ones projectiles can hit. Destroyed entities have already
+     * left the store, so only Donkey once defeated is skipped here. Level 1 has no monkeys,
+     * and projectiles have no entities since they live in the {@link ProjectileSystem}.
+     */
+    private void rebuildGrids() {
+        for (int layer = 0; layer < CollisionLayers.COUNT; layer++) {
+            grids[layer].clear();
+        }
+        targetCount = 0;
+
+        EntityStore entities = gameObjects.getEntities();
+        int slotCount = entities.getSlotCount();
+        if (targetColliders.length < slotCount) {
+            targetColliders = Arrays.copyOf(targetColliders, slotCount);
+            targetSlots = Arrays.copyOf(targetSlots, slotCount);
+        }
+
+        // Projectiles can hit any layer their masks reach
+        int targetMask = CollisionLayers.getMask(CollisionLayers.BULLET) | CollisionLayers.getMask(CollisionLayers.BANANA);
+        for (int i = 0; i < entities.getArchetypeCount(); i++) {
+            EntityStore.Archetype archetype = entities.getArchetype(i);
+            if (!archetype.has(EntityStore.COLLIDER)) {
+                continue;
+            }
+            for (int row = 0; row < archetype.size(); row++) {
+                Collider collider = (Collider) archetype.getEntity(row);
+                if (!collider.isCollidable()) {
+                    continue;
+                }
+                int layer = archetype.getLayer(row);
+                int handle = archetype.getHandle(row);
+                int slot = EntityStore.slotOf(handle);
+                int entity = slot + 1;
+                BoundingBox box = collider.getBoundingBox();
+
+                // 1) Insert into the layer's grid, remembering the entity id of the insertion
+                SpatialHash<Collider> grid = grids[layer];
+                if (grid.size() == gridEntities[layer].length) {
+                    gridEntities[layer] = Arrays.copyOf(gridEntities[layer], grid.size() * 2);
+                }
+                gridEntities[layer][grid.size()] = entity;
+                grid.insert(collider, box);
+                contacts.recordBox(entity, handle, box);
+                if (layer == CollisionLayers.MARIO) {
+                    marioEntity = entity;
+                }
+
+                // 2) Note it as a projectile target if any projectile can reach its layer
+                if ((targetMask & CollisionLayers.bit(layer)) != 0) {
+                    targetColliders[slot] = collider;
+                    targetSlots[targetCount++] = slot;
+                }
+            }
+        }
+
+        Mario mario = gameObjects.getMario();
+        BoundingBox marioBounds = mario.getBoundingBox();
+        contacts.recordBox(MARIO_REACH_ENTITY, 0, marioBounds.left(), marioBounds.top(), marioBounds.right(),
+                marioBounds.bottom() + mario.getHeight() + MarioCollisionDetector.JUMP_OVER_DROP);
+    }
+
+    /**
+     * Gathers Mario's pairs with every layer his mask allows, in layer order.
+     * Layers outside the mask, or with nothing collidable on them, are skipped without a query,
+     * and candidates from the nearby cells that the contact cache knows are still apart are skipped
+     * without a test. The rest are tested, and the gap to those found apart is stored for later ticks.
+     * The search area for barrels reaches below Mario far enough to find barrels he is jumping over.
+     */
+    private void gatherMarioPairs() {
+        Mario mario = gameObjects.getMario();
+        int mask = CollisionLayers.getMask(CollisionLayers.MARIO);
+
+        for (int layer = 0; layer < CollisionLayers.COUNT; layer++) {
+            SpatialHash<Collider> grid = grids[layer];
+            if ((mask & CollisionLayers.bit(layer)) == 0 || grid.size() == 0) {
+                continue;
+            }
+
+            BoundingBox marioBounds = mario.getBoundingBox();
+            double bottom = marioBounds.bottom();
+            int mover = marioEntity;
+            if (layer == CollisionLayers.BARREL) {
+                bottom += mario.getHeight() + MarioCollisionDetector.JUMP_OVER_DROP;
+                mover = MARIO_REACH_ENTITY;
+            }
+
+            int handler = PAIR_HANDLERS[CollisionLayers.MARIO][layer];
+            int candidates = grid.query(marioBounds.left(), marioBounds.top(), marioBounds.right(), bottom);
+            for (int i = 0; i < candidates; i++) {
+                int target = gridEntities[layer][grid.getHitIndex(i)];
+                if (!contacts.isSeparated(mover, target)) {
+                    addPair(handler, mover, grid.getHit(i), target);
+                }
+            }
+        }
+    }
+
+    /**
+     * Updates the sweep targets from the characters' boxes and gathers each projectile's pairs
+     * (Level 2 only). Targets are numbered by store slot, so the slots of removed entities are
+     * left out until reused. Pairs come newest projectile first, each with its targets in slot order.
+     */
+    private void gatherProjectilePairs() {
+        projectileSweep.removeAllTargets();
+        for (int i = 0; i < targetCount; i++) {
+            int slot = targetSlots[i];
+            Collider collider = targetColliders[slot];
+            projectileSweep.setTarget(slot, collider.getBoundingBox(), projectileKindsFor(collider.getCollisionLayer()));
+        }
+
+        ProjectileSystem projectiles = gameObjects.getProjectiles();
+        int pairs = projectileSweep.sweep(projectiles);
+        for (int i = 0; i < pairs; i++) {
+            int projectile = projectileSweep.getPairProjectile(i);
+            Collider target = targetColliders[projectileSweep.getPairTarget(i)];
+            int projectileLayer = CollisionLayers.ofProjectileKind(projectiles.getKind(projectile));
+            addPair(PAIR_HANDLERS[projectileLayer][target.getCollisionLayer()], projectile, target, -1);
+        }
+    }
+
+    /**
+     * Appends a pair to this tick's list, growing it if needed.
+     */
+    private void addPair(int handler, int mover, Collider target, int targetEntity) {
+        if (pairCount == pairHandler.length) {
+            int capacity = pairHandler.length * 2;
+            pairHandler = Arrays.copyOf(pairHandler, capacity);
+            pairMover = Arrays.copyOf(pairMover, capacity);
+            pairTarget = Arrays.copyOf(pairTarget, capacity);
+            pairTargetEntity = Arrays.copyOf(pairTargetEntity, capacity);
+            pairOutcome = Arrays.copyOf(pairOutcome, capacity);
+        }
+        pairHandler[pairCount] = handler;
+        pairMover[pairCount] = mover;
+        pairTarget[pairCount] = target;
+        pairTargetEntity[pairCount] = targetEntity;
+        pairCount++;
+    }
+
+    /**
+     * Tests the pairs in [start, end), writing only their outcome bits. Entity boxes are read
+     * through {@link PhysicsWorld#getBoundingBox}, which only writes when a box is stale, so
+     * every box must have been refreshed before separate ranges are tested at the same time.
+     */
+    private void testPairs(int start, int end) {
+        assert gameObjects.getPhysics().areBoundsFresh() : "Boxes must be refreshed before pairs are tested";
+        Mario mario = gameObjects.getMario();
+        ProjectileSystem projectiles = gameObjects.getProjectiles();
+
+        for (int i = start; i < end; i++) {
+            Collider target = pairTarget[i];
+            int outcome = 0;
+            switch (pairHandler[i]) {
+                case MARIO_BARREL:
+                    Barrel barrel = (Barrel) target;
+                    if (mario.jumpOver(barrel)) {
+                        outcome |= JUMPED_OVER;
+                    }
+                    if (mario.isTouchingBarrel(barrel) && masksOverlap(mario, barrel)) {
+                        outcome |= TOUCHING;
+                    }
+                    break;
+                case MARIO_DONKEY:
+                    if (mario.hasReached((Donkey) target)) {
+                        outcome |= TOUCHING;
+                    }
+                    break;
+                case MARIO_MONKEY:
+                    if (mario.isTouchingMonkey((Monkey) target) && masksOverlap(mario, target)) {
+                        outcome |= TOUCHING;
+                    }
+                    break;
+                case MARIO_BANANA:
+                    if (mario.isTouchingProjectile(projectiles, pairMover[i])
+                            && projectileMaskOverlaps(projectiles, pairMover[i], mario)) {
+                        outcome |= TOUCHING;
+                    }
+                    break;
+                case BULLET_DONKEY:
+                    if (projectiles.intersects(pairMover[i], target.getBoundingBox())
+                            && projectileMaskOverlaps(projectiles, pairMover[i], target)) {
+                        outcome |= TOUCHING;
+                    }
+                    break;
+                case BULLET_MONKEY:
+                    if (projectiles.intersects(pairMover[i], target.getBoundingBox())
+                            && projectileMaskOverlaps(projectiles, pairMover[i], target)) {
+                        outcome |= TOUCHING;
+                    }
+                    break;
+                default:
+                    break;
+            }
+            pairOutcome[i] = outcome;
+        }
+    }
+
+    /**
+     * Checks if two entities' sprite masks overlap where their boxes are now.
+     * Both boxes should already be known to overlap.
+     */
+    private static boolean masksOverlap(Collider a, Collider b) {
+        BoundingBox boxA = a.getBoundingBox();
+        BoundingBox boxB = b.getBoundingBox();
+        return Sprites.getCollisionMask(a.getSpritePath()).overlaps(Sprites.getCollisionMask(b.getSpritePath()),
+                CollisionMask.pixelOffset(boxB.left() - boxA.left()),
+                CollisionMask.pixelOffset(boxB.top() - boxA.top()));
+    }
+
+    /**
+     * Checks if a projectile's sprite mask met a target's anywhere along the projectile's last move.
+     * The projectile's box should already be known to have hit the target's box.
+     */
+    private static boolean projectileMaskOverlaps(ProjectileSystem projectiles, int projectile, Collider target) {
+        BoundingBox box = target.getBoundingBox();
+        double left = projectiles.left(projectile);
+        double startLeft = left - projectiles.getVelocityX(projectile);
+        return Sprites.getCollisionMask(target.getSpritePath()).overlapsAlongX(
+                Sprites.getCollisionMask(projectiles.getSpritePath(projectile)),
+                CollisionMask.pixelOffset(startLeft - box.left()),
+                CollisionMask.pixelOffset(left - box.left()),
+                CollisionMask.pixelOffset(projectiles.top(projectile) - box.top()));
+    }
+
+    /**
+     * Calls the typed handler for each pair in order, skipping projectiles that already hit
+     * something and targets already destroyed this tick, then stores Mario's gaps in the contact cache.
+     */
+    private void applyPairs(GameCollisionResult result) {
+        Mario mario = gameObjects.getMario();
+        ProjectileSystem projectiles = gameObjects.getProjectiles();
+
+        for (int i = 0; i < pairCount; i++) {
+            int handler = pairHandler[i];
+            Collider target = pairTarget[i];
+            boolean touching = (pairOutcome[i] & TOUCHING) != 0;
+            boolean fromProjectile = pairTargetEntity[i] < 0;
+
+            if (target.isCollidable() && (!fromProjectile || projectiles.isAlive(pairMover[i]))) {
+                switch (handler) {
+                    case MARIO_BARREL:
+                        handleMarioBarrel(mario, (Barrel) target, touching, (pairOutcome[i] & JUMPED_OVER) != 0, result);
+                        break;
+                    case MARIO_DONKEY:
+                        handleMarioDonkey(mario, touching, result);
+                        break;
+                    case MARIO_MONKEY:
+                        handleMarioMonkey(mario, (Monkey) target, touching, result);
+                        break;
+                    case MARIO_BANANA:
+                        handleMarioBanana(projectiles, pairMover[i], touching, result);
+                        break;
+                    case BULLET_DONKEY:
+                        handleBulletDonkey(projectiles, pairMover[i], (Donkey) target, touching, result);
+                        break;
+                    case BULLET_MONKEY:
+                        handleBulletMonkey(projectiles, pairMover[i], (Monkey) target, touching);
+                        break;
+                    default:
+                        break;
+                }
+            }
+
+            if (!fromProjectile) {
+                contacts.storeGap(pairMover[i], pairTargetEntity[i]);
+            }
+            pairTarget[i] = null;
+        }
+    }
+
+    /**
+     * Gets the cache of gaps between Mario and the entities near him.
+     *
+     * @return The contact cache
+     */
+    public ContactCache getContactCache() {
+        return contacts;
+    }
+
+    /**
+     * Gets the projectile kinds that can hit a layer, as a bit per kind.
+     */
+    private static int projectileKindsFor(int layer) {
+        int kinds = 0;
+        if (CollisionLayers.canCollide(layer, CollisionLayers.BULLET)) {
+            kinds |= 1 << ProjectileSystem.BULLET;
+        }
+        if (CollisionLayers.canCollide(layer, CollisionLayers.BANANA)) {
+            kinds |= 1 << ProjectileSystem.BANANA;
+        }
+        return kinds;
+    }
+
+    /**
+     * Handles Mario meeting a barrel: jumping over it scores, touching it ends the game
+     * unless Mario holds a hammer, which destroys the barrel instead.
+     */
+    private void handleMarioBarrel(Mario mario, Barrel barrel, boolean touching, boolean jumpedOver,
+                                   GameCollisionResult result) {
+        // Check jump over
+        if (jumpedOver) {
+            scoreManager.addScore(BARREL_CROSS_SCORE);
+        }
+
+        // Check collision
+        if (touching) {
+            if (!mario.holdHammer()) {
+                result.setGameOver(true);
+            } else {
+                barrel.destroy();
+                scoreManager.addScore(BARREL_SCORE);
+            }
+        }
+    }
+
+    /**
+     * Handles Mario reaching Donkey, which ends the game unless Mario holds a hammer.
+     * In Level 2, Donkey only counts until he is defeated, which is checked before handling.
+     * Mario reaching Donkey WITH hammer is handled as level completion by the world.
+     */
+    private void handleMarioDonkey(Mario mario, boolean touching, GameCollisionResult result) {
+        if (touching && !mario.holdHammer()) {
+            result.setGameOver(true);
+        }
+    }
+
+    /**
+     * Handles Mario touching a monkey of either kind (Level 2 only).
+     */
+    private void handleMarioMonkey(Mario mario, Monkey monkey, boolean touching, GameCollisionResult result) {
+        if (touching) {
+            if (mario.holdHammer()) {
+                monkey.destroy();
+                scoreManager.addScore(monkeyScore(monkey));
+            } else {
+                result.setGameOver(true);
+            }
+        }
+    }
+
+    /**
+     * Handles a banana reaching Mario (Level 2 only).
+     * A banana that hits Mario is destroyed and removed on the next projectile update.
+     */
+    private void handleMarioBanana(ProjectileSystem projectiles, int banana, boolean touching,
+                                   GameCollisionResult result) {
+        if (touching) {
+            result.setGameOver(true);
+            projectiles.destroy(banana);
+        }
+    }
+
+    /**
+     * Handles a bullet reaching Donkey (Level 2 only).
+     * A bullet that hits something is destroyed and removed on the next projectile update.
+     */
+    private void handleBulletDonkey(ProjectileSystem projectiles, int bullet, Donkey donkey, boolean touching,
+                                    GameCollisionResult result) {
+        if (touching) {
+            boolean donkeyDefeated = donkey.takeDamage();
+            projectiles.destroy(bullet);
+
+            if (donkeyDefeated) {
+                result.setLevelCompleted(true);
+            }
+        }
+    }
+
+    /**
+     * Handles a bullet reaching a monkey of either kind (Level 2 only).
+     */
+    private void handleBulletMonkey(ProjectileSystem projectiles, int bullet, Monkey monkey, boolean touching) {
+        if (touching) {
+            monkey.destroy();
+            projectiles.destroy(bullet);
+            scoreManager.addScore(monkeyScore(monkey));
+        }
+    }
+
+    /**
+     * Gets the score for destroying a monkey, which depends on its layer.
+     */
+    private static int monkeyScore(Monkey monkey) {
+        return monkey.getCollisionLayer() == CollisionLayers.NORMAL_MONKEY ? MONKEY_SCORE : INTEL_MONKEY_SCORE;
+    }
+
+    /**
+     * Tests a range of pairs, splitting it in half across the pool while it is large.
+     * Each task writes only the outcomes of its own range.
+     */
+    private static class TestPairs extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final CollisionManager manager;
+        private final int start;
+        private final int end;
+
+        TestPairs(CollisionManager manager, int start, int end) {
+            this.manager = manager;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start <= MIN_PAIRS_PER_TASK) {
+                manager.testPairs(start, end);
+                return;
+            }
+            int middle = (start + end) >>> 1;
+            invokeAll(new TestPairs(manager, start, middle), new TestPairs(manager, middle, end));
+        }
+    }
+
+    /**
+     * Result class for collision detection outcomes.
+     */
+    public static class GameCollisionResult {
+        private boolean isGameOver = false;
+        private boolean isLevelCompleted = false;
+
+        public boolean isGameOver() { return isGameOver; }
+        public void setGameOver(boolean gameOver) { this.isGameOver = gameOver; }
+
+        public boolean isLevelCompleted() { return isLevelCompleted; }
+        public void setLevelCompleted(boolean levelCompleted) { this.isLevelCompleted = levelCompleted; }
+
+        /**
+         * Clears the outcomes before the next round of checks.
+         */
+        public void reset() {
+            isGameOver = false;
+            isLevelCompleted = false;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+import java.awt.image.BufferedImage;
+
+/**
+ * A 1-bit collision mask built from a sprite's alpha channel, used to refine a bounding box hit.
+ * Each row of the sprite is packed into 64-bit words, with bit k of word w standing for the pixel
+ * at x = 64 * w + k, set where the pixel is mostly opaque. Two masks overlap if any pair of
+ * lined-up rows has a set bit in common, which is tested by shifting one row into line with
+ * the other and ANDing a word at a time, so a test costs a few operations per row.
+ * Masks are immutable once built, so they can be tested from several threads at once.
+ */
+public class CollisionMask {
+    // Pixels with at least this alpha are solid; fainter edge pixels are not
+    private static final int ALPHA_THRESHOLD = 128;
+
+    private final int width;
+    private final int height;
+    private final int wordsPerRow;
+    private final long[] bits;
+
+    private CollisionMask(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.wordsPerRow = (width + 63) >>> 6;
+        this.bits = new long[wordsPerRow * height];
+    }
+
+    /**
+     * Builds a mask from an image's alpha channel. Images without alpha give a solid mask.
+     *
+     * @param image The decoded sprite
+     * @return The sprite's mask
+     */
+    public static CollisionMask fromImage(BufferedImage image) {
+        CollisionMask mask = new CollisionMask(image.getWidth(), image.getHeight());
+        for (int y = 0; y < mask.height; y++) {
+            for (int x = 0; x < mask.width; x++) {
+                if ((image.getRGB(x, y) >>> 24) >= ALPHA_THRESHOLD) {
+                    mask.bits[y * mask.wordsPerRow + (x >>> 6)] |= 1L << (x & 63);
+                }
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Builds a mask filling the ellipse inscribed in a sprite's box, for a round sprite whose
+     * image has no alpha channel to take an outline from. A pixel is set if its centre is inside the ellipse.
+     *
+     * @param width  The sprite's width in pixels
+     * @param height The sprite's height in pixels
+     * @return The elliptical mask
+     */
+    public static CollisionMask inscribedEllipse(int width, int height) {
+        CollisionMask mask = new CollisionMask(width, height);
+        double radiusX = width / 2.0;
+        double radiusY = height / 2.0;
+        for (int y = 0; y < height; y++) {
+            double dy = (y + 0.5 - radiusY) / radiusY;
+            for (int x = 0; x < width; x++) {
+                double dx = (x + 0.5 - radiusX) / radiusX;
+                if (dx * dx + dy * dy <= 1) {
+                    mask.bits[y * mask.wordsPerRow + (x >>> 6)] |= 1L << (x & 63);
+                }
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Gets the width of the mask.
+     *
+     * @return The width in pixels
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Gets the height of the mask.
+     *
+     * @return The height in pixels
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Checks if another mask overlaps this one when placed at the given offset.
+     *
+     * @param other   The other mask
+     * @param offsetX The x of the other mask's top-left pixel, relative to this mask's top-left pixel
+     * @param offsetY The y of the other mask's top-left pixel, relative to this mask's top-left pixel
+     * @return true if any solid pixels of the two masks coincide, false otherwise
+     */
+    public boolean overlaps(CollisionMask other, int offsetX, int offsetY) {
+        // 1) Clip to the rows and columns the two masks share
+        int firstRow = Math.max(0, offsetY);
+        int lastRow = Math.min(height, offsetY + other.height);
+        int firstColumn = Math.max(0, offsetX);
+        int lastColumn = Math.min(width, offsetX + other.width);
+        if (firstRow >= lastRow || firstColumn >= lastColumn) {
+            return false;
+        }
+
+        // 2) AND each shared row a word at a time, shifting the other row into line
+        int firstWord = firstColumn >>> 6;
+        int lastWord = (lastColumn - 1) >>> 6;
+        for (int y = firstRow; y < lastRow; y++) {
+            int row = y * wordsPerRow;
+            int otherRow = y - offsetY;
+            for (int w = firstWord; w <= lastWord; w++) {
+                if ((bits[row + w] & other.rowBits(otherRow, (w << 6) - offsetX)) != 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if another mask overlaps this one anywhere along a horizontal move,
+     * trying every whole-pixel offset from the start of the move to its end.
+     *
+     * @param other   The other mask
+     * @param fromX   The other mask's x offset before the move, relative to this mask
+     * @param toX     The other mask's x offset after the move, relative to this mask
+     * @param offsetY The other mask's y offset, relative to this mask
+     * @return true if the masks overlap at any point of the move, false otherwise
+     */
+    public boolean overlapsAlongX(CollisionMask other, int fromX, int toX, int offsetY) {
+        int step = toX >= fromX ? 1 : -1;
+        for (int x = fromX; ; x += step) {
+            if (overlaps(other, x, offsetY)) {
+                return true;
+            }
+            if (x == toX) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Gets 64 bits of a row starting at the given pixel, with pixels outside the mask clear.
+     */
+    private long rowBits(int y, int startX) {
+        int word = Math.floorDiv(startX, 64);
+        int shift = Math.floorMod(startX, 64);
+        long low = word(y, word) >>> shift;
+        long high = shift == 0 ? 0 : word(y, word + 1) << (64 - shift);
+        return low | high;
+    }
+
+    /**
+     * Gets a word of a row, or 0 outside the row.
+     */
+    private long word(int y, int w) {
+        return w < 0 || w >= wordsPerRow ? 0 : bits[y * wordsPerRow + w];
+    }
+
+    /**
+     * Rounds a distance between two sprites' top-left corners to a whole-pixel offset.
+     *
+     * @param distance The distance in pixels
+     * @return The nearest whole number of pixels
+     */
+    public static int pixelOffset(double distance) {
+        return (int) Math.floor(distance + 0.5);
+    }
+}
@@ -0,0 +1,235 @@
+import java.util.Arrays;
+
+/**
+ * A cache of separating distances between pairs of entities, kept from one tick to the next.
+ * When a pair is tested and found apart, the gap between their boxes is stored under the pair's id.
+ * Every tick each entity's box is recorded, and the furthest any of its edges moved is added to
+ * a running total of how far it has travelled. Two boxes cannot close a gap faster than their
+ * edges move, so while the two entities together have travelled less than the stored gap since
+ * it was measured, the pair is still apart and its test can be skipped. Travel is measured from
+ * the boxes themselves, so sprite changes and teleports are covered without special cases.
+ * Each box is recorded with the handle of the entity that owns the id, so when an id is reused by a
+ * new entity its travel starts over and gaps measured against the old entity are ignored.
+ * Storage is reused between ticks, so a steady-state tick does not allocate.
+ */
+public class ContactCache {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final long NO_PAIR = -1;
+
+    // Slack for rounding in the running totals, far below any gap that matters
+    private static final double EPSILON = 1e-9;
+
+    // Per entity id: its owner, total edge travel so far, and the box seen on the last recorded tick
+    private int[] owners;
+    private double[] travel;
+    private double[] lastLeft;
+    private double[] lastTop;
+    private double[] lastRight;
+    private double[] lastBottom;
+    private boolean[] recorded;
+
+    // Open-addressed table from pair id to the gap, and the two owners and travel totals when it was measured
+    private long[] pairKeys = new long[INITIAL_CAPACITY];
+    private int[] pairOwnerA = new int[INITIAL_CAPACITY];
+    private int[] pairOwnerB = new int[INITIAL_CAPACITY];
+    private double[] pairGap = new double[INITIAL_CAPACITY];
+    private double[] pairTravelA = new double[INITIAL_CAPACITY];
+    private double[] pairTravelB = new double[INITIAL_CAPACITY];
+    private int pairCount = 0;
+
+    // Pair tests skipped and made since creation
+    private long skippedCount = 0;
+    private long testedCount = 0;
+
+    /**
+     * Creates a cache for entities with ids from 0 to one less than the given count.
+     * Larger ids grow the cache when first recorded.
+     *
+     * @param entityCount The number of entity ids
+     */
+    public ContactCache(int entityCount) {
+        owners = new int[entityCount];
+        travel = new double[entityCount];
+        lastLeft = new double[entityCount];
+        lastTop = new double[entityCount];
+        lastRight = new double[entityCount];
+        lastBottom = new double[entityCount];
+        recorded = new boolean[entityCount];
+        Arrays.fill(pairKeys, NO_PAIR);
+    }
+
+    /**
+     * Records an entity's box for this tick, adding the furthest any edge moved to its travel.
+     * Call once per tick for every entity that may be tested, before testing any pairs.
+     *
+     * @param entity The entity's id
+     * @param owner  The handle of the entity holding the id
+     */
+    public void recordBox(int entity, int owner, double left, double top, double right, double bottom) {
+        if (entity >= travel.length) {
+            growEntities(entity + 1);
+        }
+        if (recorded[entity] && owners[entity] != owner) {
+            recorded[entity] = false;
+        }
+        if (recorded[entity]) {
+            double moved = Math.max(Math.max(Math.abs(left - lastLeft[entity]), Math.abs(right - lastRight[entity])),
+                    Math.max(Math.abs(top - lastTop[entity]), Math.abs(bottom - lastBottom[entity])));
+            travel[entity] += moved;
+        }
+        lastLeft[entity] = left;
+        lastTop[entity] = top;
+        lastRight[entity] = right;
+        lastBottom[entity] = bottom;
+        owners[entity] = owner;
+        recorded[entity] = true;
+    }
+
+    /**
+     * Records an entity's box for this tick.
+     *
+     * @param entity The entity's id
+     * @param owner  The handle of the entity holding the id
+     * @param box    The entity's current box
+     */
+    public void recordBox(int entity, int owner, BoundingBox box) {
+        recordBox(entity, owner, box.left(), box.top(), box.right(), box.bottom());
+    }
+
+    /**
+     * Checks if a pair is certainly still apart, so its test can be skipped this tick.
+     * Both entities' boxes must have been recorded this tick.
+     *
+     * @param entityA The first entity's id
+     * @param entityB The second entity's id
+     * @return true if the pair's stored gap is larger than the distance both have travelled since, false otherwise
+     */
+    public boolean isSeparated(int entityA, int entityB) {
+        int slot = find(pairId(entityA, entityB));
+        if (pairKeys[slot] != NO_PAIR && pairOwnerA[slot] == owners[entityA] && pairOwnerB[slot] == owners[entityB]) {
+            double closed = (travel[entityA] - pairTravelA[slot]) + (travel[entityB] - pairTravelB[slot]);
+            if (closed + EPSILON < pairGap[slot]) {
+                skippedCount++;
+                return true;
+            }
+        }
+        testedCount++;
+        return false;
+    }
+
+    /**
+     * Stores the gap between a pair's current boxes, replacing what was stored before.
+     * Pairs that are touching store no gap and are tested again next tick.
+     *
+     * @param entityA The first entity's id
+     * @param entityB The second entity's id
+     */
+    public void storeGap(int entityA, int entityB) {
+        double gap = Math.max(
+                Math.max(lastLeft[entityB] - lastRight[entityA], lastLeft[entityA] - lastRight[entityB]),
+                Math.max(lastTop[entityB] - lastBottom[entityA], lastTop[entityA] - lastBottom[entityB]));
+
+        long key = pairId(entityA, entityB);
+        int slot = find(key);
+        if (pairKeys[slot] == NO_PAIR) {
+            if (gap <= 0) {
+                return;
+            }
+            if (2 * (pairCount + 1) > pairKeys.length) {
+                growPairs();
+                slot = find(key);
+            }
+            pairKeys[slot] = key;
+            pairCount++;
+        }
+        pairOwnerA[slot] = owners[entityA];
+        pairOwnerB[slot] = owners[entityB];
+        pairGap[slot] = gap;
+        pairTravelA[slot] = travel[entityA];
+        pairTravelB[slot] = travel[entityB];
+    }
+
+    /**
+     * Gets the number of pair tests skipped because the pair was known to be apart.
+     *
+     * @return The number of skipped tests
+     */
+    public long getSkippedCount() {
+        return skippedCount;
+    }
+
+    /**
+     * Gets the number of pair tests that had to be made.
+     *
+     * @return The number of tests made
+     */
+    public long getTestedCount() {
+        return testedCount;
+    }
+
+    /**
+     * Packs two entity ids into one pair id.
+     */
+    private static long pairId(int entityA, int entityB) {
+        return ((long) entityA << 32) | entityB;
+    }
+
+    /**
+     * Finds the slot holding a pair id, or the empty slot where it would go.
+     */
+    private int find(long key) {
+        int mask = pairKeys.length - 1;
+        int slot = (int) (key ^ (key >>> 29)) * 0x9E3779B9 & mask;
+        while (pairKeys[slot] != NO_PAIR && pairKeys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Doubles the pair table and re-inserts every stored pair.
+     */
+    private void growPairs() {
+        long[] oldKeys = pairKeys;
+        int[] oldOwnerA = pairOwnerA;
+        int[] oldOwnerB = pairOwnerB;
+        double[] oldGap = pairGap;
+        double[] oldTravelA = pairTravelA;
+        double[] oldTravelB = pairTravelB;
+
+        int capacity = oldKeys.length * 2;
+        pairKeys = new long[capacity];
+        pairOwnerA = new int[capacity];
+        pairOwnerB = new int[capacity];
+        pairGap = new double[capacity];
+        pairTravelA = new double[capacity];
+        pairTravelB = new double[capacity];
+        Arrays.fill(pairKeys, NO_PAIR);
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != NO_PAIR) {
+                int slot = find(oldKeys[i]);
+                pairKeys[slot] = oldKeys[i];
+                pairOwnerA[slot] = oldOwnerA[i];
+                pairOwnerB[slot] = oldOwnerB[i];
+                pairGap[slot] = oldGap[i];
+                pairTravelA[slot] = oldTravelA[i];
+                pairTravelB[slot] = oldTravelB[i];
+            }
+        }
+    }
+
+    /**
+     * Grows the per-entity arrays to hold at least the given number of ids.
+     */
+    private void growEntities(int entityCount) {
+        int capacity = Math.max(entityCount, travel.length * 2);
+        owners = Arrays.copyOf(owners, capacity);
+        travel = Arrays.copyOf(travel, capacity);
+        lastLeft = Arrays.copyOf(lastLeft, capacity);
+        lastTop = Arrays.copyOf(lastTop, capacity);
+        lastRight = Arrays.copyOf(lastRight, capacity);
+        lastBottom = Arrays.copyOf(lastBottom, capacity);
+        recorded = Arrays.copyOf(recorded, capacity);
+    }
+}
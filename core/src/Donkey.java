@@ -0,0 +1,189 @@
+import java.nio.ByteBuffer;
+
+/**
+ * Represents Donkey Kong in the game, affected by gravity and platform collisions.
+ * The Donkey object is moved downward by the {@link PhysicsWorld} and lands on platforms when applicable.
+ * Donkey now has a health system and can be defeated by bullets.
+ */
+public class Donkey implements Collider, EntityStore.Bodied, Snapshottable {
+    public static final String DONKEY_IMAGE = "res/donkey_kong.png";
+
+    // Position and velocity are owned by the physics world; x never changes, only relying on falling
+    private final PhysicsWorld physics;
+    private final int body;
+
+    // Health system
+    private int health = 5;
+    private static final int MAX_HEALTH = 5;
+    private boolean isDefeated = false;
+    private int hitCooldown = 0;
+    private static final int HIT_COOLDOWN_FRAMES = 20; // Invulnerability frames after being hit
+
+    /**
+     * Constructs a new Donkey at the specified starting position.
+     *
+     * @param startX The initial x-coordinate of Donkey.
+     * @param startY The initial y-coordinate of Donkey.
+     * @param physics The physics world that moves Donkey.
+     */
+    public Donkey(double startX, double startY, PhysicsWorld physics) {
+        this.physics = physics;
+        this.body = physics.addBody(PhysicsWorld.DONKEY, startX, startY,
+                Sprites.getWidth(DONKEY_IMAGE), Sprites.getHeight(DONKEY_IMAGE));
+    }
+
+    /**
+     * Updates Donkey's hit cooldown if active.
+     * Donkey's falling and landing are handled by the physics world.
+     */
+    public void update() {
+        // Update hit cooldown if active
+        if (hitCooldown > 0) {
+            hitCooldown--;
+        }
+    }
+
+    /**
+     * Gets the number of invulnerability frames left after the last hit.
+     * Used by the renderer to flash Donkey while the cooldown is active.
+     *
+     * @return The remaining hit cooldown frames
+     */
+    public int getHitCooldown() {
+        return hitCooldown;
+    }
+
+    /**
+     * Writes Donkey's health and hit cooldown; his position is part of the physics world's state.
+     *
+     * @param out The buffer to write to
+     */
+    @Override
+    public void writeState(ByteBuffer out) {
+        out.putInt(health);
+        out.putInt(hitCooldown);
+        out.put((byte) (isDefeated ? 1 : 0));
+    }
+
+    /**
+     * Reads back Donkey's health and hit cooldown.
+     *
+     * @param in The buffer to read from
+     */
+    @Override
+    public void readState(ByteBuffer in) {
+        health = in.getInt();
+        hitCooldown = in.getInt();
+        isDefeated = in.get() != 0;
+    }
+
+    /**
+     * Gets the handle of Donkey's body in the physics world.
+     *
+     * @return The body handle
+     */
+    @Override
+    public int getBody() {
+        return body;
+    }
+
+    /**
+     * Returns Donkey's bounding box for collision detection.
+     *
+     * @return A {@link BoundingBox} representing Donkey's bounding box.
+     */
+    @Override
+    public BoundingBox getBoundingBox() {
+        return physics.getBoundingBox(body);
+    }
+
+    /**
+     * Gets Donkey's collision layer.
+     *
+     * @return {@link CollisionLayers#DONKEY}
+     */
+    @Override
+    public int getCollisionLayer() {
+        return CollisionLayers.DONKEY;
+    }
+
+    /**
+     * Gets the path of the sprite Donkey is drawn with.
+     *
+     * @return The sprite path
+     */
+    @Override
+    public String getSpritePath() {
+        return DONKEY_IMAGE;
+    }
+
+    /**
+     * Checks if Donkey can still be reached or hit.
+     *
+     * @return true until Donkey is defeated
+     */
+    @Override
+    public boolean isCollidable() {
+        return !isDefeated;
+    }
+
+    /**
+     * Gets the current health of Donkey.
+     *
+     * @return The current health points
+     */
+    public int getHealth() {
+        return health;
+    }
+
+    /**
+     * Checks if Donkey has been defeated (health reduced to zero).
+     *
+     * @return true if defeated, false otherwise
+     */
+    public boolean isDefeated() {
+        return isDefeated;
+    }
+
+    /**
+     * Damages Donkey when hit by a bullet.
+     *
+     * @return true if this hit defeated Donkey, false otherwise
+     */
+    public boolean takeDamage() {
+        // Only take damage if not in cooldown period and not already defeated
+        if (hitCooldown <= 0 && !isDefeated) {
+            health--;
+            hitCooldown = HIT_COOLDOWN_FRAMES;
+
+            System.out.println("Donkey hit! Health: " + health);
+
+            // Check if defeated
+            if (health <= 0) {
+                health = 0;
+                isDefeated = true;
+                physics.setActive(body, false); // A defeated Donkey no longer moves
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets Donkey's x-coordinate.
+     *
+     * @return Donkey's x-coordinate
+     */
+    public double getX() {
+        return physics.getX(body);
+    }
+
+    /**
+     * Gets Donkey's y-coordinate.
+     *
+     * @return Donkey's y-coordinate
+     */
+    public double getY() {
+        return physics.getY(body);
+    }
+}
\ No newline at end of file
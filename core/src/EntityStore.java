@@ -0,0 +1,588 @@
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Stores a level's entities in archetype tables, one table per combination of components.
+ * An entity's components say what it takes part in: a physics body, collisions, patrolling,
+ * throwing bananas, or being a ladder or pickup. Each table keeps its entities and their
+ * primitive columns in contiguous arrays: the body handle and collision layer, and the state
+ * the patrol and throwing systems change every tick (route index, distance walked along the
+ * route and time since the last throw). A system that needs certain components visits only
+ * the tables that have them, scanning each linearly,
+ * instead of walking a typed array per entity type. A new entity type only needs its components;
+ * the systems that match them pick it up without new fields or loops.
+ * <p>
+ * Every entity gets an int handle when added, made of a slot number and the slot's generation.
+ * Removing an entity shifts the later rows of its table down by one, so the tables only ever hold
+ * live entities, no loop has to skip destroyed or collected ones, and the rows of a table always
+ * stay in the order they were added. The freed slot is reused by a later entity with a new
+ * generation, so an old handle to it is recognised as stale instead of reaching the new entity.
+ * <p>
+ * Each slot also remembers the entity last added to it, with its fixed columns, until a new entity
+ * takes the slot over. A removed entity therefore stays known only as long as its slot is free,
+ * so the store never holds more entities than were ever live at once, and a snapshot can still
+ * bring an entity removed since back into its row on restore.
+ */
+public class EntityStore implements Snapshottable {
+    // Components an entity can have, as bits of its archetype
+    public static final int BODY = 1;
+    public static final int COLLIDER = 1 << 1;
+    public static final int PATROL = 1 << 2;
+    public static final int THROWER = 1 << 3;
+    public static final int LADDER = 1 << 4;
+    public static final int HAMMER = 1 << 5;
+    public static final int BLASTER = 1 << 6;
+
+    /**
+     * Column value for entities without a body or collision layer.
+     */
+    public static final int NONE = -1;
+
+    /**
+     * Handle value that never refers to an entity.
+     */
+    public static final int NO_HANDLE = -1;
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    // A handle is the slot in its low bits and the slot's generation above them
+    private static final int SLOT_BITS = 20;
+    private static final int SLOT_MASK = (1 << SLOT_BITS) - 1;
+    private static final int GENERATION_MASK = (1 << (31 - SLOT_BITS)) - 1;
+
+    // Tables in the order their archetypes first appeared
+    private Archetype[] archetypes = new Archetype[INITIAL_CAPACITY];
+    private int archetypeCount = 0;
+
+    // Per slot: its current generation, and the table and row of the entity in it (null table when free)
+    private int[] generations = new int[INITIAL_CAPACITY];
+    private Archetype[] slotArchetypes = new Archetype[INITIAL_CAPACITY];
+    private int[] slotRows = new int[INITIAL_CAPACITY];
+    private int slotCount = 0;
+
+    // Per slot: the entity last added to it, kept after removal until the slot is reused,
+    // with the generation it was added under and its fixed columns
+    private Object[] slotEntities = new Object[INITIAL_CAPACITY];
+    private int[] entityGenerations = new int[INITIAL_CAPACITY];
+    private int[] slotBodies = new int[INITIAL_CAPACITY];
+    private int[] slotLayers = new int[INITIAL_CAPACITY];
+
+    // Slots freed by removals, reused last freed first
+    private int[] freeSlots = new int[INITIAL_CAPACITY];
+    private int freeCount = 0;
+
+    /**
+     * Adds an entity to the table for its components, creating the table if needed.
+     * Entities with {@link #BODY} must implement {@link Bodied},
+     * and entities with {@link #COLLIDER} must implement {@link Collider}.
+     * A {@link Member} is told its handle so it can remove itself later.
+     *
+     * @param components The entity's components, as a mask of the constants above
+     * @param entity     The entity
+     * @return The entity's handle
+     */
+    public int add(int components, Object entity) {
+        int body = (components & BODY) != 0 ? ((Bodied) entity).getBody() : NONE;
+        int layer = (components & COLLIDER) != 0 ? ((Collider) entity).getCollisionLayer() : NONE;
+
+        // 1) Take a freed slot, or a new one
+        int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else {
+            if (slotCount == generations.length) {
+                growSlots(generations.length * 2);
+            }
+            slot = slotCount++;
+        }
+        int handle = (generations[slot] << SLOT_BITS) | slot;
+
+        // 2) Remember the entity in its slot, replacing any removed one left there
+        slotEntities[slot] = entity;
+        entityGenerations[slot] = generations[slot];
+        slotBodies[slot] = body;
+        slotLayers[slot] = layer;
+
+        // 3) Append the row and point the slot at it
+        Archetype archetype = getOrCreate(components);
+        slotArchetypes[slot] = archetype;
+        slotRows[slot] = archetype.add(entity, body, layer, handle);
+
+        if (entity instanceof Member) {
+            ((Member) entity).attach(this, handle);
+        }
+        return handle;
+    }
+
+    /**
+     * Removes an entity, shifting the later rows of its table down and freeing its slot.
+     * The remaining rows keep their order; handles to other entities stay valid.
+     *
+     * @param handle The entity's handle
+     * @return true if the entity was removed, false if the handle was already stale
+     */
+    public boolean remove(int handle) {
+        if (!isAlive(handle)) {
+            return false;
+        }
+        int slot = handle & SLOT_MASK;
+        Archetype archetype = slotArchetypes[slot];
+
+        // 1) Close the hole and repoint the slots of the rows that moved down
+        int row = slotRows[slot];
+        archetype.removeRow(row);
+        for (int later = row; later < archetype.count; later++) {
+            slotRows[archetype.handles[later] & SLOT_MASK] = later;
+        }
+
+        // 2) Retire the slot under a new generation so old handles go stale
+        slotArchetypes[slot] = null;
+        generations[slot] = (generations[slot] + 1) & GENERATION_MASK;
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeSlots.length * 2);
+        }
+        freeSlots[freeCount++] = slot;
+        return true;
+    }
+
+    /**
+     * Checks if a handle still refers to a live entity.
+     *
+     * @param handle The handle
+     * @return true if the entity has not been removed, false otherwise
+     */
+    public boolean isAlive(int handle) {
+        if (handle < 0) {
+            return false;
+        }
+        int slot = handle & SLOT_MASK;
+        return slot < slotCount && slotArchetypes[slot] != null && generations[slot] == handle >>> SLOT_BITS;
+    }
+
+    /**
+     * Gets the entity a handle refers to.
+     *
+     * @param handle The handle
+     * @return The entity, or null if the handle is stale
+     */
+    public Object get(int handle) {
+        if (!isAlive(handle)) {
+            return null;
+        }
+        int slot = handle & SLOT_MASK;
+        return slotArchetypes[slot].getEntity(slotRows[slot]);
+    }
+
+    /**
+     * Gets the table holding a live entity.
+     *
+     * @param handle The entity's handle, which must not be stale
+     * @return The entity's table
+     */
+    public Archetype getArchetypeOf(int handle) {
+        return slotArchetypes[handle & SLOT_MASK];
+    }
+
+    /**
+     * Gets the row of a live entity in its table. The row can change when another entity is removed.
+     *
+     * @param handle The entity's handle, which must not be stale
+     * @return The entity's row
+     */
+    public int getRow(int handle) {
+        return slotRows[handle & SLOT_MASK];
+    }
+
+    /**
+     * Gets the slot of a handle. Live entities have distinct slots, all below {@link #getSlotCount()},
+     * so systems can keep per-entity data in arrays indexed by slot.
+     *
+     * @param handle The handle
+     * @return The slot
+     */
+    public static int slotOf(int handle) {
+        return handle & SLOT_MASK;
+    }
+
+    /**
+     * Gets the number of slots handed out so far, live or free.
+     *
+     * @return One more than the largest slot
+     */
+    public int getSlotCount() {
+        return slotCount;
+    }
+
+    /**
+     * Adds every non-null entity of an array to the table for their shared components.
+     *
+     * @param components The entities' components
+     * @param entities   The entities, which may be null or hold null entries
+     */
+    public void addAll(int components, Object[] entities) {
+        if (entities == null) {
+            return;
+        }
+        for (Object entity : entities) {
+            if (entity != null) {
+                add(components, entity);
+            }
+        }
+    }
+
+    /**
+     * Gets the number of archetype tables.
+     *
+     * @return The number of tables, in the order their archetypes first appeared
+     */
+    public int getArchetypeCount() {
+        return archetypeCount;
+    }
+
+    /**
+     * Gets an archetype table.
+     *
+     * @param index The position of the table, from 0 to {@link #getArchetypeCount()}
+     * @return The table
+     */
+    public Archetype getArchetype(int index) {
+        return archetypes[index];
+    }
+
+    /**
+     * Counts the entities in every table that has all the given components.
+     *
+     * @param components The required components
+     * @return The number of matching entities
+     */
+    public int count(int components) {
+        int total = 0;
+        for (int i = 0; i < archetypeCount; i++) {
+            if (archetypes[i].has(components)) {
+                total += archetypes[i].size();
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Writes the slots, free list and every table's rows, each row with the state of its entity if it
+     * is {@link Snapshottable}. Removed entities are not written, so the size follows the live rows.
+     *
+     * @param out The buffer to write to
+     */
+    @Override
+    public void writeState(ByteBuffer out) {
+        // 1) Slots and free list
+        out.putInt(slotCount);
+        for (int slot = 0; slot < slotCount; slot++) {
+            out.putShort((short) generations[slot]);
+        }
+        out.putInt(freeCount);
+        for (int i = 0; i < freeCount; i++) {
+            out.putInt(freeSlots[i]);
+        }
+
+        // 2) Each table's rows, as handles, the columns its systems change and the entity's own state
+        out.putInt(archetypeCount);
+        for (int i = 0; i < archetypeCount; i++) {
+            Archetype archetype = archetypes[i];
+            out.putInt(archetype.count);
+            for (int row = 0; row < archetype.count; row++) {
+                out.putInt(archetype.handles[row]);
+                if (archetype.has(PATROL)) {
+                    out.putInt(archetype.routeIndices[row]);
+                    out.putDouble(archetype.routeDistances[row]);
+                }
+                if (archetype.has(THROWER)) {
+                    out.putInt(archetype.throwTimers[row]);
+                }
+                if (archetype.entities[row] instanceof Snapshottable) {
+                    ((Snapshottable) archetype.entities[row]).writeState(out);
+                }
+            }
+        }
+    }
+
+    /**
+     * Rebuilds the slots, free list and tables from a snapshot of this same level, reading back each
+     * live entity's state. Entities removed since the snapshot return to their rows, and every live
+     * {@link Member} is told its handle again. Members that are live now but not in the snapshot are
+     * detached, since the snapshot holds no state for them.
+     *
+     * @param in The buffer to read from
+     * @throws IllegalArgumentException if the snapshot's tables do not match this store, or it refers to
+     *                                  an entity whose slot has since been taken by another
+     */
+    @Override
+    public void readState(ByteBuffer in) {
+        // 1) Detach the current members; those in the snapshot are attached again below
+        for (int i = 0; i < archetypeCount; i++) {
+            Archetype archetype = archetypes[i];
+            for (int row = 0; row < archetype.count; row++) {
+                if (archetype.entities[row] instanceof Member) {
+                    ((Member) archetype.entities[row]).detach();
+                }
+            }
+        }
+
+        // 2) Slots and free list
+        slotCount = 0;
+        int slots = in.getInt();
+        if (generations.length < slots) {
+            growSlots(slots);
+        }
+        for (int slot = 0; slot < slots; slot++) {
+            generations[slot] = in.getShort();
+            slotArchetypes[slot] = null;
+        }
+        slotCount = slots;
+        freeCount = in.getInt();
+        if (freeSlots.length < freeCount) {
+            freeSlots = Arrays.copyOf(freeSlots, freeCount);
+        }
+        for (int i = 0; i < freeCount; i++) {
+            freeSlots[i] = in.getInt();
+        }
+
+        // 3) Each table's rows, pointing their slots back at them
+        if (in.getInt() != archetypeCount) {
+            throw new IllegalArgumentException("Snapshot tables do not match this level");
+        }
+        for (int i = 0; i < archetypeCount; i++) {
+            Archetype archetype = archetypes[i];
+            archetype.clear();
+            int rows = in.getInt();
+            for (int row = 0; row < rows; row++) {
+                int handle = in.getInt();
+                int slot = handle & SLOT_MASK;
+                if (entityGenerations[slot] != handle >>> SLOT_BITS) {
+                    throw new IllegalArgumentException("Snapshot entity in slot " + slot + " has been replaced");
+                }
+                Object entity = slotEntities[slot];
+                archetype.add(entity, slotBodies[slot], slotLayers[slot], handle);
+                if (archetype.has(PATROL)) {
+                    archetype.routeIndices[row] = in.getInt();
+                    archetype.routeDistances[row] = in.getDouble();
+                }
+                if (archetype.has(THROWER)) {
+                    archetype.throwTimers[row] = in.getInt();
+                }
+                slotArchetypes[slot] = archetype;
+                slotRows[slot] = row;
+                if (entity instanceof Member) {
+                    ((Member) entity).attach(this, handle);
+                }
+                if (entity instanceof Snapshottable) {
+                    ((Snapshottable) entity).readState(in);
+                }
+            }
+        }
+    }
+
+    /**
+     * Grows every per-slot array to hold at least the given number of slots.
+     */
+    private void growSlots(int capacity) {
+        generations = Arrays.copyOf(generations, capacity);
+        slotArchetypes = Arrays.copyOf(slotArchetypes, capacity);
+        slotRows = Arrays.copyOf(slotRows, capacity);
+        slotEntities = Arrays.copyOf(slotEntities, capacity);
+        entityGenerations = Arrays.copyOf(entityGenerations, capacity);
+        slotBodies = Arrays.copyOf(slotBodies, capacity);
+        slotLayers = Arrays.copyOf(slotLayers, capacity);
+    }
+
+    /**
+     * Finds the table with exactly the given components, or appends a new one.
+     */
+    private Archetype getOrCreate(int components) {
+        for (int i = 0; i < archetypeCount; i++) {
+            if (archetypes[i].getComponents() == components) {
+                return archetypes[i];
+            }
+        }
+        if (archetypeCount == archetypes.length) {
+            archetypes = Arrays.copyOf(archetypes, archetypes.length * 2);
+        }
+        Archetype archetype = new Archetype(components);
+        archetypes[archetypeCount++] = archetype;
+        return archetype;
+    }
+
+    /**
+     * An entity that owns a body in the {@link PhysicsWorld}.
+     */
+    public interface Bodied {
+        /**
+         * Gets the handle of the entity's body.
+         *
+         * @return The body handle
+         */
+        int getBody();
+    }
+
+    /**
+     * An entity that is told its handle when added, so it can remove itself from the store
+     * when it is destroyed or collected.
+     */
+    public interface Member {
+        /**
+         * Called when the entity is added, and again when a snapshot restores it.
+         *
+         * @param store  The store holding the entity
+         * @param handle The entity's handle
+         */
+        void attach(EntityStore store, int handle);
+
+        /**
+         * Called when restoring a snapshot drops the entity, because the snapshot was taken before
+         * it was added or after it was removed. The entity should mark itself as gone.
+         */
+        void detach();
+    }
+
+    /**
+     * The entities sharing one combination of components, with their columns in parallel arrays.
+     */
+    public static class Archetype {
+        private final int components;
+        private Object[] entities = new Object[INITIAL_CAPACITY];
+        private int[] bodies = new int[INITIAL_CAPACITY];
+        private int[] layers = new int[INITIAL_CAPACITY];
+        private int[] handles = new int[INITIAL_CAPACITY];
+
+        // Patrol and throwing state, unused by tables without those components
+        private int[] routeIndices = new int[INITIAL_CAPACITY];
+        private double[] routeDistances = new double[INITIAL_CAPACITY];
+        private int[] throwTimers = new int[INITIAL_CAPACITY];
+        private int count = 0;
+
+        Archetype(int components) {
+            this.components = components;
+        }
+
+        private int add(Object entity, int body, int layer, int handle) {
+            if (count == entities.length) {
+                int capacity = entities.length * 2;
+                entities = Arrays.copyOf(entities, capacity);
+                bodies = Arrays.copyOf(bodies, capacity);
+                layers = Arrays.copyOf(layers, capacity);
+                handles = Arrays.copyOf(handles, capacity);
+                routeIndices = Arrays.copyOf(routeIndices, capacity);
+                routeDistances = Arrays.copyOf(routeDistances, capacity);
+                throwTimers = Arrays.copyOf(throwTimers, capacity);
+            }
+            entities[count] = entity;
+            bodies[count] = body;
+            layers[count] = layer;
+            handles[count] = handle;
+            routeIndices[count] = 0;
+            routeDistances[count] = 0;
+            throwTimers[count] = 0;
+            return count++;
+        }
+
+        /**
+         * Empties the table, keeping its storage.
+         */
+        private void clear() {
+            Arrays.fill(entities, 0, count, null);
+            count = 0;
+        }
+
+        /**
+         * Shifts the rows after a removed row down by one, keeping their order.
+         */
+        private void removeRow(int row) {
+            int after = count - row - 1;
+            System.arraycopy(entities, row + 1, entities, row, after);
+            System.arraycopy(bodies, row + 1, bodies, row, after);
+            System.arraycopy(layers, row + 1, layers, row, after);
+            System.arraycopy(handles, row + 1, handles, row, after);
+            System.arraycopy(routeIndices, row + 1, routeIndices, row, after);
+            System.arraycopy(routeDistances, row + 1, routeDistances, row, after);
+            System.arraycopy(throwTimers, row + 1, throwTimers, row, after);
+            entities[--count] = null;
+        }
+
+        /**
+         * Gets the components every entity in this table has.
+         *
+         * @return The component mask
+         */
+        public int getComponents() {
+            return components;
+        }
+
+        /**
+         * Checks if this table's entities have all the given components.
+         *
+         * @param required The required components
+         * @return true if every required component is present, false otherwise
+         */
+        public boolean has(int required) {
+            return (components & required) == required;
+        }
+
+        /**
+         * Gets the number of entities in this table.
+         *
+         * @return The number of rows
+         */
+        public int size() {
+            return count;
+        }
+
+        /**
+         * Gets an entity.
+         *
+         * @param row The entity's row, from 0 to {@link #size()}
+         * @return The entity
+         */
+        public Object getEntity(int row) {
+            return entities[row];
+        }
+
+        /**
+         * Gets an entity's body handle.
+         *
+         * @param row The entity's row
+         * @return The body handle, or {@link #NONE} without {@link #BODY}
+         */
+        public int getBody(int row) {
+            return bodies[row];
+        }
+
+        /**
+         * Gets an entity's collision layer.
+         *
+         * @param row The entity's row
+         * @return One of the {@link CollisionLayers} constants, or {@link #NONE} without {@link #COLLIDER}
+         */
+        public int getLayer(int row) {
+            return layers[row];
+        }
+
+        /**
+         * Gets an entity's handle.
+         *
+         * @param row The entity's row
+         * @return The handle
+         */
+        public int getHandle(int row) {
+            return handles[row];
+        }
+
+        // Patrol columns: the waypoint being walked towards and the distance walked since the last one
+        public int getRouteIndex(int row) { return routeIndices[row]; }
+        public void setRouteIndex(int row, int routeIndex) { routeIndices[row] = routeIndex; }
+
+        public double getRouteDistance(int row) { return routeDistances[row]; }
+        public void setRouteDistance(int row, double distance) { routeDistances[row] = distance; }
+
+        // Throwing column: ticks since the last throw
+        public int getThrowTimer(int row) { return throwTimers[row]; }
+        public void setThrowTimer(int row, int ticks) { throwTimers[row] = ticks; }
+    }
+}
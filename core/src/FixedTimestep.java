@@ -0,0 +1,87 @@
+/**
+ * Accumulator for running the simulation at a fixed tick rate regardless of the render frame rate.
+ * Each rendered frame reports how much real time has passed, and the clock answers how many
+ * simulation ticks should run to catch up. The clock never reads the wall clock itself.
+ */
+public class FixedTimestep {
+    private final double tickSeconds;
+    private final int maxTicksPerFrame;
+    private double timeScale;
+    private double accumulator = 0;
+
+    /**
+     * Creates a fixed-timestep clock.
+     *
+     * @param ticksPerSecond   The simulation tick rate
+     * @param maxTicksPerFrame The most ticks a single frame may run; time beyond this is dropped
+     * @param timeScale        The speed of game time relative to real time (1.0 is normal speed)
+     */
+    public FixedTimestep(int ticksPerSecond, int maxTicksPerFrame, double timeScale) {
+        if (ticksPerSecond <= 0 || maxTicksPerFrame <= 0) {
+            throw new IllegalArgumentException("Tick rate and catch-up cap must be positive");
+        }
+        this.tickSeconds = 1.0 / ticksPerSecond;
+        this.maxTicksPerFrame = maxTicksPerFrame;
+        setTimeScale(timeScale);
+    }
+
+    /**
+     * Adds the real time spent on the last frame and returns the number of ticks to simulate.
+     * If the frame took too long, at most {@code maxTicksPerFrame} ticks are returned and the
+     * remaining backlog is discarded so a slow frame cannot trigger a spiral of catch-up work.
+     *
+     * @param elapsedSeconds The real time since the previous frame, in seconds
+     * @return The number of simulation ticks to run this frame
+     */
+    public int advance(double elapsedSeconds) {
+        accumulator += Math.max(0, elapsedSeconds) * timeScale;
+
+        int ticks = (int) (accumulator / tickSeconds);
+        if (ticks > maxTicksPerFrame) {
+            ticks = maxTicksPerFrame;
+            accumulator = 0;
+        } else {
+            accumulator -= ticks * tickSeconds;
+        }
+        return ticks;
+    }
+
+    /**
+     * Discards any accumulated time, e.g. when a level starts.
+     */
+    public void reset() {
+        accumulator = 0;
+    }
+
+    /**
+     * Gets how far the simulation is between the last tick and the next one.
+     * Can be used by the renderer to interpolate positions.
+     *
+     * @return A value in [0, 1)
+     */
+    public double getAlpha() {
+        return accumulator / tickSeconds;
+    }
+
+    /**
+     * Gets the speed of game time relative to real time.
+     *
+     * @return The time scale
+     */
+    public double getTimeScale() {
+        return timeScale;
+    }
+
+    /**
+     * Sets the speed of game time relative to real time.
+     * Values above 1 fast-forward and values below 1 slow the game down.
+     *
+     * @param timeScale The new time scale, which must not be negative
+     */
+    public void setTimeScale(double timeScale) {
+        if (timeScale < 0) {
+            throw new IllegalArgumentException("Time scale must not be negative");
+        }
+        this.timeScale = timeScale;
+    }
+}
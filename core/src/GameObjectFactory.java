@@ -8,28 +8,44 @@ public class GameObjectFactory {
     private final Properties gameProps;
     private final int levelNumber;
     private final String levelKey; // "level1" or "level2"
+    private final double screenWidth;
+    private final double screenHeight;
+    private final PhysicsWorld physics;
 
     /**
      * Creates a new GameObjectFactory for the specified level.
      *
      * @param gameProps The properties containing game configuration
      * @param levelNumber The level number (1 or 2)
+     * @param physics The physics world that falling objects are added to
      */
-    public GameObjectFactory(Properties gameProps, int levelNumber) {
+    public GameObjectFactory(Properties gameProps, int levelNumber, PhysicsWorld physics) {
         this.gameProps = gameProps;
+        this.physics = physics;
         this.levelNumber = levelNumber;
         this.levelKey = "level" + levelNumber;
+        this.screenWidth = Integer.parseInt(gameProps.getProperty("window.width"));
+        this.screenHeight = Integer.parseInt(gameProps.getProperty("window.height"));
+    }
+
+    /**
+     * Gets the physics world that falling objects are added to.
+     */
+    public PhysicsWorld getPhysics() {
+        return physics;
     }
 
     /**
      * Creates Mario from properties.
+     *
+     * @param projectiles The projectile system Mario fires bullets into
      */
-    public Mario createMario() {
+    public Mario createMario(ProjectileSystem projectiles) {
         String marioPosition = gameProps.getProperty("mario." + levelKey);
         String[] marioCoords = marioPosition.split(",");
         double marioX = Double.parseDouble(marioCoords[0]);
         double marioY = Double.parseDouble(marioCoords[1]);
-        return new Mario(marioX, marioY);
+        return new Mario(marioX, marioY, screenWidth, screenHeight, projectiles, physics);
     }
 
     /**
@@ -40,7 +56,7 @@ public class GameObjectFactory {
         String[] donkeyCoords = donkeyPosition.split(",");
         double donkeyX = Double.parseDouble(donkeyCoords[0]);
         double donkeyY = Double.parseDouble(donkeyCoords[1]);
-        return new Donkey(donkeyX, donkeyY);
+        return new Donkey(donkeyX, donkeyY, physics);
     }
 
     /**
@@ -57,7 +73,7 @@ public class GameObjectFactory {
                 if (coords.length >= 2) {
                     double barrelX = Double.parseDouble(coords[0]);
                     double barrelY = Double.parseDouble(coords[1]);
-                    barrels[i-1] = new Barrel(barrelX, barrelY);
+                    barrels[i-1] = new Barrel(barrelX, barrelY, physics);
                 }
             }
         }
@@ -78,13 +94,23 @@ public class GameObjectFactory {
                 if (coords.length >= 2) {
                     double ladderX = Double.parseDouble(coords[0]);
                     double ladderY = Double.parseDouble(coords[1]);
-                    ladders[i-1] = new Ladder(ladderX, ladderY);
+                    ladders[i-1] = new Ladder(ladderX, ladderY, physics);
                 }
             }
         }
         return ladders;
     }
 
+    /**
+     * Rests ladders, barrels and Donkey on the platforms below their spawn points, so the
+     * level begins in its settled state. Call once the platforms and props have been created.
+     *
+     * @param platformIndex The support index over the level's platforms
+     */
+    public void settleProps(PlatformIndex platformIndex) {
+        physics.settle(platformIndex);
+    }
+
     /**
      * Creates platforms array from properties.
      */
@@ -176,6 +202,15 @@ public class GameObjectFactory {
         return normalMonkeys;
     }
 
+    /**
+     * Creates the system holding bullets and bananas, with caps from properties.
+     */
+    public ProjectileSystem createProjectileSystem() {
+        int maxBullets = Integer.parseInt(gameProps.getProperty("gamePlay.maxBullets"));
+        int maxBananas = Integer.parseInt(gameProps.getProperty("gamePlay.maxBananas"));
+        return new ProjectileSystem(maxBullets, maxBananas, screenWidth, screenHeight);
+    }
+
     /**
      * Creates intelligent monkeys array from properties (Level 2 only).
      */
@@ -226,9 +261,9 @@ public class GameObjectFactory {
 
             // Create appropriate monkey type
             if (isNormalMonkey) {
-                return (T) new NormalMonkey(x, y, direction, waypoints);
+                return (T) new NormalMonkey(x, y, direction, waypoints, physics);
             } else {
-                return (T) new IntelligentMonkey(x, y, direction, waypoints);
+                return (T) new IntelligentMonkey(x, y, direction, waypoints, physics);
             }
         }
         return null;
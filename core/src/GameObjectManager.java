@@ -0,0 +1,252 @@
+import java.nio.ByteBuffer;
+
+/**
+ * Game object manager that handles both Level 1 and Level 2.
+ * Uses composition to handle level-specific objects.
+ * Barrels, ladders, pickups and monkeys live in an {@link EntityStore}, and each update
+ * visits the archetypes with the components it needs rather than a typed array per kind.
+ * Every tick updates in a fixed order: Mario's input, physics, the rest of Mario's update,
+ * Donkey, then on Level 2 each monkey in the order the level loaded them, projectiles and
+ * weapon switching. The store keeps each table's rows in the order they were added, so walking
+ * the monkey tables gives that order even after some monkeys have been destroyed.
+ */
+public class GameObjectManager implements Snapshottable {
+    // Core game objects (present in both levels)
+    private Mario mario;
+    private Donkey donkey;
+    private Platform[] platforms;
+    private ProjectileSystem projectiles;
+    private PhysicsWorld physics;
+    private PlatformIndex platformIndex;
+
+    // Trees over objects that never move once the level has settled, used for Mario's queries
+    private StaticBVH<Ladder> ladderTree;
+    private StaticBVH<Hammer> hammerTree;
+    private StaticBVH<Blaster> blasterTree;
+
+    // Every entity in the level, grouped by components
+    private final EntityStore entities = new EntityStore();
+    private final int[] bulletCounter = new int[1];
+
+    // Level identifier and play area
+    private final int levelNumber;
+    private final double screenWidth;
+    private final double screenHeight;
+
+    /**
+     * Creates a new GameObjectManager for the specified level.
+     *
+     * @param levelNumber The level number (1 or 2)
+     * @param screenWidth The width of the play area
+     * @param screenHeight The height of the play area
+     */
+    public GameObjectManager(int levelNumber, double screenWidth, double screenHeight) {
+        this.levelNumber = levelNumber;
+        this.screenWidth = screenWidth;
+        this.screenHeight = screenHeight;
+    }
+
+    // Setters for initialization
+    public void setMario(Mario mario) {
+        this.mario = mario;
+        entities.add(EntityStore.BODY | EntityStore.COLLIDER, mario);
+    }
+    public void setDonkey(Donkey donkey) {
+        this.donkey = donkey;
+        entities.add(EntityStore.BODY | EntityStore.COLLIDER, donkey);
+    }
+    public void setProjectiles(ProjectileSystem projectiles) { this.projectiles = projectiles; }
+    public void setPhysics(PhysicsWorld physics) { this.physics = physics; }
+    public void setPlatforms(Platform[] platforms) {
+        this.platforms = platforms;
+        this.platformIndex = new PlatformIndex(platforms);
+    }
+
+    /**
+     * Adds entities that share the same components, such as a level's barrels.
+     *
+     * @param components The entities' {@link EntityStore} components
+     * @param newEntities The entities, which may be null (for a kind the level does not have) or hold nulls
+     */
+    public void addEntities(int components, Object[] newEntities) {
+        entities.addAll(components, newEntities);
+    }
+
+    /**
+     * Builds the trees over ladders, hammers and blasters that Mario's ladder and pickup
+     * queries search. Call once every object is loaded and the ladders have settled.
+     */
+    public void buildStaticTrees() {
+        ladderTree = buildTree(EntityStore.LADDER);
+        hammerTree = buildTree(EntityStore.HAMMER);
+
+        // Level 1 doesn't have blasters, so its tree stays null
+        if (entities.count(EntityStore.BLASTER) > 0) {
+            blasterTree = buildTree(EntityStore.BLASTER);
+        }
+    }
+
+    /**
+     * Builds a tree over every entity with the given component, using its body's box if it has one.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> StaticBVH<T> buildTree(int component) {
+        StaticBVH<T> tree = new StaticBVH<>();
+        for (int i = 0; i < entities.getArchetypeCount(); i++) {
+            EntityStore.Archetype archetype = entities.getArchetype(i);
+            if (!archetype.has(component)) {
+                continue;
+            }
+            for (int row = 0; row < archetype.size(); row++) {
+                Object entity = archetype.getEntity(row);
+                BoundingBox box = archetype.has(EntityStore.BODY)
+                        ? physics.getBoundingBox(archetype.getBody(row))
+                        : ((Collectible) entity).getBoundingBox();
+                tree.add((T) entity, box);
+            }
+        }
+        tree.build();
+        return tree;
+    }
+
+    // Getters
+    public Mario getMario() { return mario; }
+    public Donkey getDonkey() { return donkey; }
+    public EntityStore getEntities() { return entities; }
+    public Platform[] getPlatforms() { return platforms; }
+    public PlatformIndex getPlatformIndex() { return platformIndex; }
+    public StaticBVH<Ladder> getLadderTree() { return ladderTree; }
+    public StaticBVH<Hammer> getHammerTree() { return hammerTree; }
+    public StaticBVH<Blaster> getBlasterTree() { return blasterTree; }
+    public ProjectileSystem getProjectiles() { return projectiles; }
+    public PhysicsWorld getPhysics() { return physics; }
+    public int[] getBulletCounter() { return bulletCounter; }
+    public int getLevelNumber() { return levelNumber; }
+    public double getScreenWidth() { return screenWidth; }
+    public double getScreenHeight() { return screenHeight; }
+
+    /**
+     * Writes the changing state of every object in the level: bodies, projectiles, entities,
+     * the bullet count and which pickups have left the trees. Platforms and ladders never change.
+     *
+     * @param out The buffer to write to
+     */
+    @Override
+    public void writeState(ByteBuffer out) {
+        physics.writeState(out);
+        projectiles.writeState(out);
+        entities.writeState(out);
+        out.putInt(bulletCounter[0]);
+        hammerTree.writeState(out);
+        if (blasterTree != null) {
+            blasterTree.writeState(out);
+        }
+    }
+
+    /**
+     * Reads back the state of every object in the level, in the order it was written.
+     *
+     * @param in The buffer to read from
+     */
+    @Override
+    public void readState(ByteBuffer in) {
+        physics.readState(in);
+        projectiles.readState(in);
+        entities.readState(in);
+        bulletCounter[0] = in.getInt();
+        hammerTree.readState(in);
+        if (blasterTree != null) {
+            blasterTree.readState(in);
+        }
+    }
+
+    /**
+     * Updates all game objects based on the current level.
+     *
+     * @param input The {@link PlayerInput} mask for this tick
+     */
+    public void updateGameObjects(int input) {
+        // Common updates for both levels
+        updateCommonObjects(input);
+
+        // Level-specific updates
+        if (levelNumber == 2) {
+            updateLevel2SpecificObjects();
+        }
+    }
+
+    /**
+     * Updates objects common to both levels.
+     */
+    private void updateCommonObjects(int input) {
+        // Update Mario (different method calls based on level)
+        if (levelNumber == 1) {
+            mario.update(input, ladderTree, hammerTree);
+        } else if (levelNumber == 2) {
+            mario.update(input, ladderTree, hammerTree, blasterTree, bulletCounter);
+        }
+
+        // Move Mario, Donkey, ladders, barrels and monkeys under gravity and land them on platforms
+        physics.step(platformIndex);
+
+        // Finish Mario's update now that he has landed
+        mario.finishUpdate(input);
+
+        // Update Donkey
+        donkey.update();
+    }
+
+    /**
+     * Updates Level 2 specific objects.
+     */
+    private void updateLevel2SpecificObjects() {
+        // Update monkeys
+        updateMonkeys();
+
+        // Move bullets and bananas
+        projectiles.update();
+
+        // Handle weapon switching
+        handleWeaponSwitching();
+    }
+
+    /**
+     * Updates every patrolling monkey (Level 2 only), table by table in load order.
+     * Each monkey's route progress and throwing timer live in its row of the entity store.
+     * Monkeys that can throw check whether to throw a banana after moving.
+     */
+    private void updateMonkeys() {
+        for (int i = 0; i < entities.getArchetypeCount(); i++) {
+            EntityStore.Archetype table = entities.getArchetype(i);
+            if (!table.has(EntityStore.PATROL)) {
+                continue;
+            }
+            boolean canThrow = table.has(EntityStore.THROWER);
+            for (int row = 0; row < table.size(); row++) {
+                Monkey monkey = (Monkey) table.getEntity(row);
+                monkey.update(table, row);
+
+                // Check if monkey throws a banana
+                if (canThrow) {
+                    ((IntelligentMonkey) monkey).checkThrowBanana(projectiles, table, row);
+                }
+            }
+        }
+    }
+
+    /**
+     * Handles weapon switching (Level 2 only).
+     */
+    private void handleWeaponSwitching() {
+        if (levelNumber == 2 && mario.holdHammer()) {
+            bulletCounter[0] = 0;
+        }
+    }
+
+    /**
+     * Checks if this manager is handling Level 2.
+     */
+    public boolean isLevel2() {
+        return levelNumber == 2;
+    }
+}
\ No newline at end of file
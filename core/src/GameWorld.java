@@ -0,0 +1,297 @@
+import java.nio.ByteBuffer;
+import java.util.Properties;
+
+/**
+ * The simulation state of a single level, independent of rendering and keyboard input.
+ * Handles both Level 1 and Level 2, using the level number to decide which rules apply.
+ * The world is advanced one tick at a time with a {@link PlayerInput} mask.
+ * Its whole changing state can be written into a byte buffer with {@link #snapshot} and
+ * put back with {@link #restore}, so a level can be rewound or its future tried out and undone.
+ * The simulation is deterministic: it reads no clock and no window, takes randomness only from
+ * its own seeded {@link SimulationRandom}, and updates objects in the fixed order set by
+ * {@link GameObjectManager}, so the same configuration, seed and inputs give the same
+ * {@link #stateHash()} on every tick.
+ */
+public class GameWorld {
+    /**
+     * The fixed simulation rate. Frame counts and cooldowns are measured in these ticks.
+     */
+    public static final int TICKS_PER_SECOND = 60;
+
+    // Marks the start of a snapshot, changed whenever the snapshot layout changes
+    private static final int SNAPSHOT_MAGIC = 0x444B5305;
+
+    // Managers
+    private final GameObjectManager gameObjectManager;
+    private final CollisionManager collisionManager;
+    private final ScoreManager scoreManager;
+    private final GameObjectFactory gameObjectFactory;
+
+    // The only source of randomness in the simulation
+    private final long seed;
+    private final SimulationRandom random;
+
+    // Holds the state being hashed, created on the first hash
+    private WorldSnapshot hashSnapshot;
+
+    // Game state
+    private final int levelNumber;
+    private int currFrame = 0;
+    private final int MAX_FRAMES;
+    private boolean isGameOver = false;
+
+    /**
+     * Creates the world for a level, seeded from {@code gamePlay.seed}, and loads its game objects.
+     *
+     * @param gameProps Properties containing game configuration
+     * @param levelNumber The level number (1 or 2)
+     */
+    public GameWorld(Properties gameProps, int levelNumber) {
+        this(gameProps, levelNumber, Long.parseLong(gameProps.getProperty("gamePlay.seed")));
+    }
+
+    /**
+     * Creates the world for a level with the given seed and loads its game objects.
+     *
+     * @param gameProps Properties containing game configuration
+     * @param levelNumber The level number (1 or 2)
+     * @param seed The seed of the world's random numbers
+     */
+    public GameWorld(Properties gameProps, int levelNumber, long seed) {
+        this.levelNumber = levelNumber;
+        this.seed = seed;
+        this.random = new SimulationRandom(seed);
+        this.MAX_FRAMES = Integer.parseInt(gameProps.getProperty("gamePlay.maxFrames"));
+
+        this.scoreManager = new ScoreManager();
+        this.gameObjectManager = new GameObjectManager(levelNumber,
+                Integer.parseInt(gameProps.getProperty("window.width")),
+                Integer.parseInt(gameProps.getProperty("window.height")));
+        this.gameObjectFactory = new GameObjectFactory(gameProps, levelNumber, new PhysicsWorld(gameProps));
+        this.collisionManager = new CollisionManager(gameObjectManager, scoreManager,
+                Integer.parseInt(gameProps.getProperty("gamePlay.parallelCollisionPairs")));
+
+        initializeGameObjects();
+    }
+
+    /**
+     * Initializes the level's game objects using the factory.
+     */
+    private void initializeGameObjects() {
+        // Create common objects for both levels
+        gameObjectManager.setPhysics(gameObjectFactory.getPhysics());
+        ProjectileSystem projectiles = gameObjectFactory.createProjectileSystem();
+        gameObjectManager.setProjectiles(projectiles);
+        gameObjectManager.setMario(gameObjectFactory.createMario(projectiles));
+        gameObjectManager.setDonkey(gameObjectFactory.createDonkey());
+        gameObjectManager.addEntities(EntityStore.BODY | EntityStore.COLLIDER, gameObjectFactory.createBarrels());
+        gameObjectManager.addEntities(EntityStore.BODY | EntityStore.LADDER, gameObjectFactory.createLadders());
+        gameObjectManager.setPlatforms(gameObjectFactory.createPlatforms());
+        gameObjectManager.addEntities(EntityStore.HAMMER, gameObjectFactory.createHammers());
+        gameObjectFactory.settleProps(gameObjectManager.getPlatformIndex());
+
+        // Level 1 doesn't have blasters, monkeys, or bananas
+        if (levelNumber == 2) {
+            gameObjectManager.addEntities(EntityStore.BLASTER, gameObjectFactory.createBlasters());
+            gameObjectManager.addEntities(EntityStore.BODY | EntityStore.COLLIDER | EntityStore.PATROL,
+                    gameObjectFactory.createNormalMonkeys());
+            gameObjectManager.addEntities(EntityStore.BODY | EntityStore.COLLIDER | EntityStore.PATROL
+                    | EntityStore.THROWER, gameObjectFactory.createIntelligentMonkeys());
+        }
+
+        // Index the objects that no longer move for Mario's ladder and pickup queries
+        gameObjectManager.buildStaticTrees();
+    }
+
+    /**
+     * Advances the world by one tick.
+     *
+     * @param input The {@link PlayerInput} mask for this tick
+     * @return {@code true} if the game ends, {@code false} otherwise.
+     */
+    public boolean step(int input) {
+        currFrame++;
+
+        // Update all game objects using manager
+        gameObjectManager.updateGameObjects(input);
+
+        // Check game time
+        if (checkingGameTime()) {
+            isGameOver = true;
+        }
+
+        // Check all collisions using manager
+        CollisionManager.GameCollisionResult collisionResult = collisionManager.checkAllCollisions();
+
+        // Update game state based on collision results
+        if (collisionResult.isGameOver()) {
+            isGameOver = true;
+        }
+
+        return isGameOver || isLevelCompleted();
+    }
+
+    /**
+     * Writes the world's changing state at the buffer's position. Nothing is allocated, so the same
+     * buffer can be reused for every snapshot; a full Level 2 world takes a few kilobytes.
+     *
+     * @param out The buffer to write to
+     * @return The number of bytes written
+     * @throws java.nio.BufferOverflowException if the buffer is too small, see {@link WorldSnapshot}
+     */
+    public int snapshot(ByteBuffer out) {
+        int start = out.position();
+        out.putInt(SNAPSHOT_MAGIC);
+        out.putInt(levelNumber);
+        out.putInt(currFrame);
+        out.put((byte) (isGameOver ? 1 : 0));
+        out.putInt(scoreManager.getScore());
+        random.writeState(out);
+        gameObjectManager.writeState(out);
+        return out.position() - start;
+    }
+
+    /**
+     * Puts the world back in the state read from the buffer's position, which must hold a snapshot
+     * of a world for the same level. Nothing is allocated.
+     *
+     * @param in The buffer to read from
+     * @throws IllegalArgumentException if the snapshot is not of this level
+     */
+    public void restore(ByteBuffer in) {
+        if (in.getInt() != SNAPSHOT_MAGIC) {
+            throw new IllegalArgumentException("Not a world snapshot");
+        }
+        if (in.getInt() != levelNumber) {
+            throw new IllegalArgumentException("Snapshot is not of level " + levelNumber);
+        }
+        currFrame = in.getInt();
+        isGameOver = in.get() != 0;
+        scoreManager.setScore(in.getInt());
+        random.readState(in);
+        gameObjectManager.readState(in);
+    }
+
+    /**
+     * Hashes the world's whole changing state, as written by {@link #snapshot}, into 64 bits.
+     * Two worlds with the same hash can be taken to be in the same state, so runs can be compared
+     * or their results cached tick by tick. Allocates only on the first call.
+     *
+     * @return The state hash
+     */
+    public long stateHash() {
+        if (hashSnapshot == null) {
+            hashSnapshot = new WorldSnapshot();
+        }
+        hashSnapshot.capture(this);
+        return hashSnapshot.hash();
+    }
+
+    /**
+     * Checks whether the level is completed.
+     * Both levels are completed when Mario reaches Donkey while holding a hammer,
+     * and Level 2 is also completed when Donkey is defeated by bullets.
+     *
+     * @return {@code true} if the level is completed, {@code false} otherwise.
+     */
+    public boolean isLevelCompleted() {
+        Mario mario = gameObjectManager.getMario();
+        Donkey donkey = gameObjectManager.getDonkey();
+        boolean reachedWithHammer = mario.hasReached(donkey) && mario.holdHammer();
+        if (levelNumber == 2) {
+            return reachedWithHammer || donkey.isDefeated();
+        }
+        return reachedWithHammer;
+    }
+
+    /**
+     * Checks if the game has reached its time limit.
+     *
+     * @return {@code true} if the time limit has been reached, {@code false} otherwise.
+     */
+    public boolean checkingGameTime() {
+        return currFrame >= MAX_FRAMES;
+    }
+
+    /**
+     * Checks if the game is over.
+     *
+     * @return true if the game is over, false otherwise
+     */
+    public boolean isGameOver() {
+        return isGameOver;
+    }
+
+    /**
+     * Gets the current score.
+     *
+     * @return The current score
+     */
+    public int getScore() {
+        return scoreManager.getScore();
+    }
+
+    /**
+     * Gets the number of seconds left in the level.
+     *
+     * @return The number of seconds left
+     */
+    public int getSecondsLeft() {
+        return (MAX_FRAMES - currFrame) / TICKS_PER_SECOND;
+    }
+
+    /**
+     * Gets the number of ticks simulated so far.
+     *
+     * @return The current frame number
+     */
+    public int getCurrFrame() {
+        return currFrame;
+    }
+
+    /**
+     * Gets the seed the world was created with.
+     *
+     * @return The seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the world's random number generator. Anything random in the simulation must draw from it,
+     * or from a generator split from it, for runs to be reproducible.
+     *
+     * @return The generator
+     */
+    public SimulationRandom getRandom() {
+        return random;
+    }
+
+    /**
+     * Gets the level number of this world.
+     *
+     * @return The level number (1 or 2)
+     */
+    public int getLevelNumber() {
+        return levelNumber;
+    }
+
+    /**
+     * Gets the game objects so they can be drawn.
+     *
+     * @return The game object manager
+     */
+    public GameObjectManager getGameObjects() {
+        return gameObjectManager;
+    }
+
+    /**
+     * Gets the collision manager, for inspecting its broadphase.
+     *
+     * @return The collision manager
+     */
+    public CollisionManager getCollisionManager() {
+        return collisionManager;
+    }
+}
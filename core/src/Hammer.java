@@ -1,12 +1,10 @@
-import bagel.*;
-
 /**
  * Represents a Hammer collectible in the game.
  * The hammer can be collected by the player to destroy enemies and barrels.
  */
 public class Hammer extends Collectible {
     // Sprite image
-    private static final Image HAMMER_IMAGE = new Image("res/hammer.png");
+    private static final String HAMMER_IMAGE = "res/hammer.png";
 
     /**
      * Constructs a Hammer at the specified position.
@@ -19,12 +17,12 @@ public class Hammer extends Collectible {
     }
 
     /**
-     * Gets the hammer image.
+     * Gets the path of the hammer image.
      *
-     * @return The hammer image
+     * @return The hammer image path
      */
     @Override
-    protected Image getCollectibleImage() {
+    protected String getCollectibleImage() {
         return HAMMER_IMAGE;
     }
 
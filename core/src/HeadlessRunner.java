@@ -0,0 +1,98 @@
+import java.util.Properties;
+
+/**
+ * Steps Level 1 and Level 2 worlds without a window to measure simulation throughput.
+ * Usage: {@code HeadlessRunner [ticks]}, run from the project root so {@code res/} resolves.
+ */
+public class HeadlessRunner {
+    private static final int DEFAULT_TICKS = 100000;
+
+    /**
+     * Runs each level with no input until the tick budget is spent, restarting
+     * the level whenever it ends, and prints the ticks per second achieved.
+     * Banana and contact counts are totalled over every world the level was restarted with.
+     *
+     * @param args Optional number of ticks to simulate per level
+     */
+    public static void main(String[] args) {
+        int ticks = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_TICKS;
+        Properties gameProps = IOUtils.readPropertiesFile("res/app.properties");
+
+        // History kept by the time-travel debug mode
+        int historySeconds = Integer.parseInt(gameProps.getProperty("debug.timeTravel.seconds"));
+        int historySlotBytes = Integer.parseInt(gameProps.getProperty("debug.timeTravel.slotBytes"));
+
+        for (int level = 1; level <= 2; level++) {
+            GameWorld world = new GameWorld(gameProps, level);
+            Totals totals = new Totals();
+            long awakeBodyTicks = 0;
+            long bodyTicks = 0;
+            long start = System.nanoTime();
+            for (int i = 0; i < ticks; i++) {
+                if (world.step(PlayerInput.NONE)) {
+                    totals.add(world);
+                    world = new GameWorld(gameProps, level);
+                }
+                PhysicsWorld physics = world.getGameObjects().getPhysics();
+                awakeBodyTicks += physics.getAwakeCount();
+                bodyTicks += physics.size();
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf("Level %d: %d ticks in %.3f s (%.0f ticks/s)%n",
+                    level, ticks, seconds, ticks / seconds);
+
+            totals.add(world);
+            System.out.printf("  bananas: peak %d of %d, %d thrown, %d rejected%n",
+                    totals.bananaPeak,
+                    world.getGameObjects().getProjectiles().getCapacity(ProjectileSystem.BANANA),
+                    totals.bananasFired, totals.bananasRejected);
+            System.out.printf("  bodies: %.2f awake of %.2f per tick on average%n",
+                    (double) awakeBodyTicks / ticks, (double) bodyTicks / ticks);
+            System.out.printf("  contacts: %d pair tests skipped, %d made%n",
+                    totals.skippedTests, totals.madeTests);
+
+            // Time-travel capture cost: keep every tick's state as the debug mode does
+            SnapshotRing history = new SnapshotRing(historySeconds * GameWorld.TICKS_PER_SECOND, historySlotBytes);
+            world = new GameWorld(gameProps, level);
+            long captureNanos = 0;
+            for (int i = 0; i < ticks; i++) {
+                if (world.step(PlayerInput.NONE)) {
+                    world = new GameWorld(gameProps, level);
+                }
+                long captureStart = System.nanoTime();
+                history.capture(world);
+                captureNanos += System.nanoTime() - captureStart;
+            }
+            System.out.printf("  time travel: %.2f us per capture into a %.1f MB history, peak snapshot %d bytes%n",
+                    captureNanos / 1e3 / ticks, history.getByteSize() / 1e6, history.getPeakSnapshotBytes());
+        }
+    }
+
+    /**
+     * Banana and contact counters summed over the worlds of one level's run,
+     * since each restart starts a world with fresh counters.
+     */
+    private static class Totals {
+        private int bananaPeak = 0;
+        private long bananasFired = 0;
+        private long bananasRejected = 0;
+        private long skippedTests = 0;
+        private long madeTests = 0;
+
+        /**
+         * Adds a finished world's counters, before it is replaced or once the run is over.
+         */
+        private void add(GameWorld world) {
+            ProjectileSystem projectiles = world.getGameObjects().getProjectiles();
+            bananaPeak = Math.max(bananaPeak, projectiles.getPeakLiveCount(ProjectileSystem.BANANA));
+            bananasFired += projectiles.getFiredCount(ProjectileSystem.BANANA);
+            bananasRejected += projectiles.getRejectedCount(ProjectileSystem.BANANA);
+
+            ContactCache contacts = world.getCollisionManager().getContactCache();
+            if (contacts != null) {
+                skippedTests += contacts.getSkippedCount();
+                madeTests += contacts.getTestedCount();
+            }
+        }
+    }
+}
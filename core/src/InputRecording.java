@@ -0,0 +1,331 @@
+import java.io.*;
+import java.util.Arrays;
+import java.util.Properties;
+
+/**
+ * The {@link PlayerInput} masks of every tick of one level session, stored as runs of equal masks.
+ * Held keys rarely change between ticks, so a whole session is usually a few hundred runs.
+ * The recording also keeps the level chosen on the home screen (ENTER for Level 1, 2 for Level 2),
+ * the seed of the world's random numbers and a hash of the game configuration, so a replay can
+ * rebuild the same world and refuse to run against different settings.
+ * <p>
+ * The home screen's presses are not part of the run stream: they step no world, and all they
+ * decide is which level starts, so the level number stands in for them. Every tick in the stream
+ * is therefore a world tick, which keeps tick counts, truncation and archive keyframes aligned.
+ */
+public class InputRecording {
+    // Marks the start of a recording file, changed whenever the file layout changes
+    private static final int FILE_MAGIC = 0x444B5202;
+    private static final int INITIAL_RUNS = 64;
+    private static final String DEBUG_PREFIX = "debug.";
+
+    /**
+     * The score stored when the recording was never saved from a session.
+     */
+    public static final int NO_SCORE = -1;
+
+    private final int levelNumber;
+    private final long configHash;
+    private final long seed;
+
+    // Runs of ticks with the same input mask
+    private int[] runInputs;
+    private int[] runLengths;
+    private int runCount = 0;
+    private int tickCount = 0;
+    private int finalScore = NO_SCORE;
+
+    /**
+     * Creates an empty recording for a level.
+     *
+     * @param levelNumber The level number (1 or 2)
+     * @param configHash The hash of the game configuration, see {@link #configHash(Properties)}
+     * @param seed The seed the session's world was created with, see {@link GameWorld#getSeed()}
+     */
+    public InputRecording(int levelNumber, long configHash, long seed) {
+        this.levelNumber = levelNumber;
+        this.configHash = configHash;
+        this.seed = seed;
+        this.runInputs = new int[INITIAL_RUNS];
+        this.runLengths = new int[INITIAL_RUNS];
+    }
+
+    /**
+     * Adds the input of the next tick. Extends the last run if the mask is unchanged,
+     * and only allocates when the run arrays fill up.
+     *
+     * @param input The {@link PlayerInput} mask the world was stepped with
+     */
+    public void record(int input) {
+        if (runCount > 0 && runInputs[runCount - 1] == input) {
+            runLengths[runCount - 1]++;
+            tickCount++;
+            return;
+        }
+        addRun(input, 1);
+    }
+
+    /**
+     * Appends a run, growing the run arrays if they are full.
+     */
+    private void addRun(int input, int length) {
+        if (runCount == runInputs.length) {
+            runInputs = Arrays.copyOf(runInputs, runCount * 2);
+            runLengths = Arrays.copyOf(runLengths, runCount * 2);
+        }
+        runInputs[runCount] = input;
+        runLengths[runCount] = length;
+        runCount++;
+        tickCount += length;
+    }
+
+    /**
+     * Drops every tick after the first few, e.g. when play is rewound and resumed from an earlier tick.
+     *
+     * @param ticks The number of ticks to keep
+     */
+    public void truncate(int ticks) {
+        if (ticks < 0 || ticks > tickCount) {
+            throw new IndexOutOfBoundsException("Cannot keep " + ticks + " of " + tickCount + " ticks");
+        }
+        // 1) Drop whole runs that start at or after the cut
+        while (runCount > 0 && tickCount - runLengths[runCount - 1] >= ticks) {
+            tickCount -= runLengths[runCount - 1];
+            runCount--;
+        }
+
+        // 2) Shorten the run the cut falls in
+        if (tickCount > ticks) {
+            runLengths[runCount - 1] -= tickCount - ticks;
+            tickCount = ticks;
+        }
+    }
+
+    /**
+     * Steps a world with every recorded input in turn, as fast as possible, stopping early if the game ends.
+     *
+     * @param world A new world for this recording's level, created with its seed
+     * @return The number of ticks stepped
+     */
+    public int replay(GameWorld world) {
+        if (world.getLevelNumber() != levelNumber) {
+            throw new IllegalArgumentException("Recording is for level " + levelNumber
+                    + ", not level " + world.getLevelNumber());
+        }
+        if (world.getSeed() != seed) {
+            throw new IllegalArgumentException("Recording was made with seed " + seed
+                    + ", not seed " + world.getSeed());
+        }
+        int ticks = 0;
+        for (int run = 0; run < runCount; run++) {
+            int input = runInputs[run];
+            for (int i = 0; i < runLengths[run]; i++) {
+                ticks++;
+                if (world.step(input)) {
+                    return ticks;
+                }
+            }
+        }
+        return ticks;
+    }
+
+    /**
+     * Writes the recording: a header with the level, configuration hash, seed, tick count and final score,
+     * then one mask byte and one length per run.
+     *
+     * @param out The stream to write to
+     * @throws IOException if the stream cannot be written
+     */
+    public void write(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+        data.writeInt(FILE_MAGIC);
+        data.writeByte(levelNumber);
+        data.writeLong(configHash);
+        data.writeLong(seed);
+        data.writeInt(tickCount);
+        data.writeInt(finalScore);
+        data.writeInt(runCount);
+        for (int run = 0; run < runCount; run++) {
+            data.writeByte(runInputs[run]);
+            data.writeInt(runLengths[run]);
+        }
+        data.flush();
+    }
+
+    /**
+     * Reads a recording written by {@link #write}.
+     *
+     * @param in The stream to read from
+     * @return The recording
+     * @throws IOException if the stream cannot be read or is not a recording
+     */
+    public static InputRecording read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+        if (data.readInt() != FILE_MAGIC) {
+            throw new IOException("Not an input recording, or written by another version");
+        }
+        InputRecording recording = new InputRecording(data.readByte(), data.readLong(), data.readLong());
+        int tickCount = data.readInt();
+        recording.finalScore = data.readInt();
+        int runCount = data.readInt();
+        for (int run = 0; run < runCount; run++) {
+            int input = data.readByte();
+            int length = data.readInt();
+            if (length <= 0) {
+                throw new IOException("Run " + run + " has length " + length);
+            }
+            recording.addRun(input, length);
+        }
+        if (recording.tickCount != tickCount) {
+            throw new IOException("Recording has " + recording.tickCount + " ticks, header says " + tickCount);
+        }
+        return recording;
+    }
+
+    /**
+     * Writes the recording to a file, creating its directory if needed.
+     *
+     * @param file The file to write
+     * @throws IOException if the file cannot be written
+     */
+    public void save(File file) throws IOException {
+        File directory = file.getAbsoluteFile().getParentFile();
+        if (directory != null && !directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("Cannot create " + directory);
+        }
+        try (OutputStream out = new FileOutputStream(file)) {
+            write(out);
+        }
+    }
+
+    /**
+     * Reads a recording from a file.
+     *
+     * @param file The file to read
+     * @return The recording
+     * @throws IOException if the file cannot be read or is not a recording
+     */
+    public static InputRecording load(File file) throws IOException {
+        try (InputStream in = new FileInputStream(file)) {
+            return read(in);
+        }
+    }
+
+    /**
+     * Hashes the game configuration with 64-bit FNV-1a over its entries in key order,
+     * so the hash does not depend on the order of lines in the file. Entries under
+     * {@code debug.} are left out, since they do not change how the game plays.
+     *
+     * @param gameProps Properties containing game configuration
+     * @return The configuration hash
+     */
+    public static long configHash(Properties gameProps) {
+        String[] keys = gameProps.stringPropertyNames().toArray(new String[0]);
+        Arrays.sort(keys);
+        long hash = 0xcbf29ce484222325L;
+        for (String key : keys) {
+            if (key.startsWith(DEBUG_PREFIX)) {
+                continue;
+            }
+            hash = fnv(hash, key);
+            hash = fnv(hash, "=");
+            hash = fnv(hash, gameProps.getProperty(key));
+            hash = fnv(hash, "\n");
+        }
+        return hash;
+    }
+
+    /**
+     * Adds a string's characters to an FNV-1a hash.
+     */
+    private static long fnv(long hash, String text) {
+        for (int i = 0; i < text.length(); i++) {
+            hash ^= text.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    /**
+     * Gets the level the session was played on, which records the home-screen press that chose it.
+     *
+     * @return The level number (1 for ENTER, 2 for the 2 key)
+     */
+    public int getLevelNumber() {
+        return levelNumber;
+    }
+
+    /**
+     * Gets the hash of the configuration the session was played with.
+     *
+     * @return The configuration hash
+     */
+    public long getConfigHash() {
+        return configHash;
+    }
+
+    /**
+     * Gets the seed of the world the session was played in.
+     *
+     * @return The seed, to create the replay's world with
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the number of ticks recorded.
+     *
+     * @return The tick count
+     */
+    public int getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * Gets the number of runs of equal input.
+     *
+     * @return The run count
+     */
+    public int getRunCount() {
+        return runCount;
+    }
+
+    /**
+     * Gets the input mask of a run.
+     *
+     * @param run The run index
+     * @return The {@link PlayerInput} mask held for the whole run
+     */
+    public int getRunInput(int run) {
+        return runInputs[run];
+    }
+
+    /**
+     * Gets the number of ticks in a run.
+     *
+     * @param run The run index
+     * @return The run length in ticks
+     */
+    public int getRunLength(int run) {
+        return runLengths[run];
+    }
+
+    /**
+     * Gets the score at the last recorded tick.
+     *
+     * @return The final score, or {@link #NO_SCORE} if none was stored
+     */
+    public int getFinalScore() {
+        return finalScore;
+    }
+
+    /**
+     * Sets the score at the last recorded tick, so a replay can be checked against it.
+     *
+     * @param finalScore The final score
+     */
+    public void setFinalScore(int finalScore) {
+        this.finalScore = finalScore;
+    }
+}
@@ -0,0 +1,159 @@
+/**
+ * Represents an intelligent monkey enemy that can follow waypoints and throw bananas.
+ */
+public class IntelligentMonkey extends Monkey {
+    // Sprite images
+    private static final String INTEL_MONKEY_RIGHT_IMAGE = "res/intelli_monkey_right.png";
+    private static final String INTEL_MONKEY_LEFT_IMAGE = "res/intelli_monkey_left.png";
+
+    // Current sprite
+    private String currentImage;
+
+    // Shooting properties
+    private static final int SHOOT_INTERVAL = 300; // 5 seconds at 60 ticks per second
+
+    /**
+     * Creates a new intelligent monkey at the specified position.
+     *
+     * @param x The initial x-coordinate
+     * @param y The initial y-coordinate
+     * @param direction Initial facing direction ("left" or "right")
+     * @param waypoints Array of waypoint distances for monkey movement
+     * @param physics The physics world that moves the monkey
+     */
+    public IntelligentMonkey(double x, double y, String direction, int[] waypoints, PhysicsWorld physics) {
+        super(x, y, direction, waypoints, physics, PhysicsWorld.INTEL_MONKEY);
+        setSize(Sprites.getWidth(INTEL_MONKEY_RIGHT_IMAGE), Sprites.getHeight(INTEL_MONKEY_RIGHT_IMAGE));
+        changeSprite();
+    }
+
+    /**
+     * Gets the collision layer of intelligent monkeys.
+     *
+     * @return {@link CollisionLayers#INTELLIGENT_MONKEY}
+     */
+    @Override
+    public int getCollisionLayer() {
+        return CollisionLayers.INTELLIGENT_MONKEY;
+    }
+
+    /**
+     * Updates the monkey's position using waypoints and platform edges.
+     * Shooting is handled by {@link #checkThrowBanana}.
+     */
+    @Override
+    public void update(EntityStore.Archetype table, int row) {
+        if (isDestroyed) return;
+
+        // Platform contact was resolved by the physics step
+        Platform currentPlatform = getSupportingPlatform();
+        boolean onPlatform = currentPlatform != null;
+
+        // Only move horizontally if on a platform
+        if (onPlatform) {
+            // Move horizontally
+            setX(getX() + velocity);
+
+            // Update distance traveled
+            int routeIndex = table.getRouteIndex(row);
+            double distanceTravelled = table.getRouteDistance(row) + Math.abs(velocity);
+            table.setRouteDistance(row, distanceTravelled);
+
+            // Check if reached current waypoint
+            boolean reachedWaypoint = false;
+            if (waypoints != null && waypoints.length > 0 &&
+                    distanceTravelled >= waypoints[routeIndex]) {
+                reachedWaypoint = true;
+            }
+
+            // Check platform edges
+            boolean atPlatformEdge = false;
+            if (currentPlatform != null) {
+                double platformLeft = currentPlatform.getX() - currentPlatform.getWidth()/2;
+                double platformRight = currentPlatform.getX() + currentPlatform.getWidth()/2;
+
+                // Check if the monkey would walk off the platform
+                if ((isFacingRight && getX() + width/2 + velocity > platformRight) ||
+                        (!isFacingRight && getX() - width/2 + velocity < platformLeft)) {
+                    atPlatformEdge = true;
+                }
+            }
+
+            // Check if should turn around
+            if (reachedWaypoint || atPlatformEdge) {
+                // Turn around
+                isFacingRight = !isFacingRight;
+                velocity = isFacingRight ? MONKEY_SPEED : -MONKEY_SPEED;
+                changeSprite();
+
+                // Reset distance and update waypoint index if reached waypoint
+                if (reachedWaypoint && waypoints != null && waypoints.length > 0) {
+                    table.setRouteDistance(row, 0);
+                    table.setRouteIndex(row, (routeIndex + 1) % waypoints.length);
+                }
+            }
+        }
+
+        // We're not handling shooting here anymore
+        // It's now handled by the checkThrowBanana method
+    }
+
+    /**
+     * Checks if the monkey should throw a banana this frame.
+     *
+     * @param projectiles The projectile system thrown bananas are added to
+     * @param table The monkey's table in the entity store, whose throwing column holds its timer
+     * @param row The monkey's row in the table
+     * @return true if a banana was thrown, false otherwise
+     */
+    public boolean checkThrowBanana(ProjectileSystem projectiles, EntityStore.Archetype table, int row) {
+        // Increment timer
+        int shootTimer = table.getThrowTimer(row) + 1;
+
+        // Throw banana every 5 seconds (300 ticks at 60 ticks per second)
+        if (shootTimer >= SHOOT_INTERVAL) {
+            table.setThrowTimer(row, 0);
+            return throwBanana(projectiles);
+        }
+
+        table.setThrowTimer(row, shootTimer);
+        return false;
+    }
+
+    /**
+     * Throws a banana projectile.
+     *
+     * @param projectiles The projectile system to add the banana to
+     * @return true if the banana was thrown, false if too many bananas are live
+     */
+    private boolean throwBanana(ProjectileSystem projectiles) {
+        // Calculate spawn position in front of the monkey
+        double bananaX = isFacingRight ?
+                getX() + width/2 : // At the right edge when facing right
+                getX() - width/2;  // At the left edge when facing left
+
+        // At the center height of the monkey
+        double bananaY = getY();
+
+        // Throw the banana
+        return projectiles.fire(ProjectileSystem.BANANA, bananaX, bananaY, isFacingRight);
+    }
+
+    /**
+     * Gets the path of the sprite for the monkey's current direction.
+     *
+     * @return The sprite path
+     */
+    @Override
+    public String getSpritePath() {
+        return currentImage;
+    }
+
+    /**
+     * Changes the monkey's sprite based on direction.
+     */
+    @Override
+    public void changeSprite() {
+        currentImage = isFacingRight ? INTEL_MONKEY_RIGHT_IMAGE : INTEL_MONKEY_LEFT_IMAGE;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,83 @@
+/**
+ * Represents a ladder in the game.
+ * The ladder is moved by the {@link PhysicsWorld}, falling under gravity until it lands on a platform.
+ */
+public class Ladder implements EntityStore.Bodied {
+    public static final String LADDER_IMAGE = "res/ladder.png";
+    public static double width;
+    public static double height;
+
+    // Position and velocity are owned by the physics world; x never changes, only relying on falling
+    private final PhysicsWorld physics;
+    private final int body;
+
+    /**
+     * Constructs a ladder at the specified position.
+     *
+     * @param startX The initial x-coordinate.
+     * @param startY The initial y-coordinate.
+     * @param physics The physics world that moves the ladder.
+     */
+    public Ladder(double startX, double startY, PhysicsWorld physics) {
+        width = Sprites.getWidth(LADDER_IMAGE);
+        height = Sprites.getHeight(LADDER_IMAGE);
+        this.physics = physics;
+        this.body = physics.addBody(PhysicsWorld.LADDER, startX, startY, width, height);
+    }
+
+    /**
+     * Gets the handle of the ladder's body in the physics world.
+     *
+     * @return The body handle
+     */
+    @Override
+    public int getBody() {
+        return body;
+    }
+
+    /**
+     * Returns the bounding box of the ladder for collision detection.
+     *
+     * @return A {@link BoundingBox} representing the ladder's bounding box.
+     */
+    public BoundingBox getBoundingBox() {
+        return physics.getBoundingBox(body);
+    }
+
+
+    /**
+     * Gets the x-coordinate of the ladder.
+     *
+     * @return The current x-coordinate of the ladder.
+     */
+    public double getX() {
+        return physics.getX(body);
+    }
+
+    /**
+     * Gets the y-coordinate of the ladder.
+     *
+     * @return The current y-coordinate of the ladder.
+     */
+    public double getY() {
+        return physics.getY(body);
+    }
+
+    /**
+     * Gets the width of the ladder.
+     *
+     * @return The width of the ladder.
+     */
+    public double getWidth() {
+        return width;
+    }
+
+    /**
+     * Gets the height of the ladder.
+     *
+     * @return The height of the ladder.
+     */
+    public double getHeight() {
+        return height;
+    }
+}
@@ -0,0 +1,195 @@
+import java.nio.ByteBuffer;
+
+/**
+ * Streamlined Mario class that coordinates between three specialized components.
+ * This class maintains Mario's state and delegates complex functionality.
+ */
+public class Mario implements Collider, EntityStore.Bodied, Snapshottable {
+    // Core state; position, velocity, size and bounding box are owned by the physics world
+    private final PhysicsWorld physics;
+    private final int body;
+    private boolean isJumping = false;
+    private boolean hasHammer = false;
+    private boolean hasBlaster = false;
+    private boolean isFacingRight = true;
+    private final double screenWidth, screenHeight;
+
+    // Specialized components
+    private MarioCollisionDetector collisionDetector;
+    private MarioInputHandler inputHandler;
+    private MarioSpriteManager spriteManager;
+
+    /**
+     * Constructs Mario at the specified position inside a play area of the given size.
+     * Bullets Mario fires are added to the given projectile system,
+     * and Mario falls and lands on platforms as a body in the given physics world.
+     */
+    public Mario(double startX, double startY, double screenWidth, double screenHeight,
+                 ProjectileSystem projectiles, PhysicsWorld physics) {
+        this.physics = physics;
+        this.body = physics.addBody(PhysicsWorld.MARIO, startX, startY, 0, 0);
+        this.screenWidth = screenWidth;
+        this.screenHeight = screenHeight;
+
+        // Initialize components
+        this.collisionDetector = new MarioCollisionDetector(this);
+        this.inputHandler = new MarioInputHandler(this, collisionDetector, projectiles);
+        this.spriteManager = new MarioSpriteManager(this);
+    }
+
+    /**
+     * Main update method for Level 2 (with blaster support).
+     * Runs before the physics step; {@link #finishUpdate(int)} completes the tick after it.
+     */
+    public void update(int input, StaticBVH<Ladder> ladders, StaticBVH<Hammer> hammers,
+                       StaticBVH<Blaster> blasters, int[] bulletCounter) {
+
+        // Update sprite first
+        spriteManager.updateSprite();
+
+        // Handle input and game logic up to the physics step
+        inputHandler.handleInput(input, ladders, hammers, blasters, bulletCounter);
+    }
+
+    /**
+     * Overloaded update method for Level 1 (no blaster support).
+     */
+    public void update(int input, StaticBVH<Ladder> ladders, StaticBVH<Hammer> hammers) {
+        update(input, ladders, hammers, null, null);
+    }
+
+    /**
+     * Completes Mario's tick once the physics step has moved him and resolved his platform landing.
+     */
+    public void finishUpdate(int input) {
+        // Handle jumping and boundaries
+        inputHandler.finishInput(input);
+
+        // Update sprite again in case items were collected
+        spriteManager.updateSprite();
+    }
+
+    // Getters and setters
+    public double getX() { return physics.getX(body); }
+    public void setX(double x) { physics.setX(body, x); }
+
+    public double getY() { return physics.getY(body); }
+    public void setY(double y) { physics.setY(body, y); }
+
+    public double getVelocityY() { return physics.getVelocityY(body); }
+    public void setVelocityY(double velocityY) { physics.setVelocityY(body, velocityY); }
+
+    public void setGravityEnabled(boolean enabled) { physics.setGravityEnabled(body, enabled); }
+    public boolean isOnPlatform() { return physics.isGrounded(body); }
+
+    public boolean isJumping() { return isJumping; }
+    public void setJumping(boolean jumping) { this.isJumping = jumping; }
+
+    public boolean hasHammer() { return hasHammer; }
+    public void setHasHammer(boolean hasHammer) { this.hasHammer = hasHammer; }
+
+    public boolean hasBlaster() { return hasBlaster; }
+    public void setHasBlaster(boolean hasBlaster) { this.hasBlaster = hasBlaster; }
+
+    public boolean isFacingRight() { return isFacingRight; }
+    public void setFacingRight(boolean facingRight) { this.isFacingRight = facingRight; }
+
+    public double getWidth() { return physics.getWidth(body); }
+    public void setWidth(double width) { physics.setWidth(body, width); }
+
+    public double getHeight() { return physics.getHeight(body); }
+    public void setHeight(double height) { physics.setHeight(body, height); }
+
+    public double getScreenWidth() { return screenWidth; }
+    public double getScreenHeight() { return screenHeight; }
+
+    @Override
+    public String getSpritePath() { return spriteManager.getCurrentImage(); }
+
+    // Public API methods (legacy compatibility)
+    public boolean holdHammer() { return hasHammer; }
+    public boolean holdBlaster() { return hasBlaster; }
+
+    /**
+     * Writes Mario's flags, sprite and shooting cooldown; his position, velocity and size
+     * are part of the physics world's state.
+     *
+     * @param out The buffer to write to
+     */
+    @Override
+    public void writeState(ByteBuffer out) {
+        out.put((byte) ((isJumping ? 1 : 0) | (hasHammer ? 2 : 0) | (hasBlaster ? 4 : 0) | (isFacingRight ? 8 : 0)));
+        out.put((byte) spriteManager.getImageIndex());
+        out.putInt(inputHandler.getShootCooldown());
+    }
+
+    /**
+     * Reads back Mario's flags, sprite and shooting cooldown.
+     *
+     * @param in The buffer to read from
+     */
+    @Override
+    public void readState(ByteBuffer in) {
+        byte flags = in.get();
+        isJumping = (flags & 1) != 0;
+        hasHammer = (flags & 2) != 0;
+        hasBlaster = (flags & 4) != 0;
+        isFacingRight = (flags & 8) != 0;
+        spriteManager.setImageIndex(in.get());
+        inputHandler.setShootCooldown(in.getInt());
+    }
+
+    /**
+     * Gets the handle of Mario's body in the physics world.
+     *
+     * @return The body handle
+     */
+    @Override
+    public int getBody() {
+        return body;
+    }
+
+    @Override
+    public BoundingBox getBoundingBox() {
+        return physics.getBoundingBox(body);
+    }
+
+    @Override
+    public int getCollisionLayer() { return CollisionLayers.MARIO; }
+
+    @Override
+    public boolean isCollidable() { return true; }
+
+    // Collision detection methods (delegated to collision detector)
+    public boolean isTouchingLadder(Ladder ladder) {
+        return collisionDetector.isTouchingLadder(ladder);
+    }
+
+    public boolean isTouchingHammer(Hammer hammer) {
+        return collisionDetector.isTouchingHammer(hammer);
+    }
+
+    public boolean isTouchingBarrel(Barrel barrel) {
+        return collisionDetector.isTouchingBarrel(barrel);
+    }
+
+    public boolean isTouchingMonkey(Monkey monkey) {
+        return collisionDetector.isTouchingMonkey(monkey);
+    }
+
+    public boolean isTouchingProjectile(ProjectileSystem projectiles, int index) {
+        return collisionDetector.isTouchingProjectile(projectiles, index);
+    }
+
+    public boolean isTouchingBlaster(Blaster blaster) {
+        return collisionDetector.isTouchingBlaster(blaster);
+    }
+
+    public boolean hasReached(Donkey donkey) {
+        return collisionDetector.hasReached(donkey);
+    }
+
+    public boolean jumpOver(Barrel barrel) {
+        return collisionDetector.jumpOver(barrel);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,85 @@
+/**
+ * Handles all collision detection for Mario with game objects.
+ */
+public class MarioCollisionDetector {
+    /**
+     * How far below Mario's feet a barrel can still count as jumped over.
+     */
+    public static final double JUMP_OVER_DROP = (25) / (2 * Physics.MARIO_GRAVITY);
+
+    private final Mario mario;
+
+    public MarioCollisionDetector(Mario mario) {
+        this.mario = mario;
+    }
+
+    /**
+     * Checks if Mario is touching a ladder.
+     */
+    public boolean isTouchingLadder(Ladder ladder) {
+        BoundingBox marioBounds = mario.getBoundingBox();
+        return marioBounds.intersects(ladder.getBoundingBox());
+    }
+
+    /**
+     * Checks if Mario is touching a hammer.
+     */
+    public boolean isTouchingHammer(Hammer hammer) {
+        BoundingBox marioBounds = mario.getBoundingBox();
+        return marioBounds.intersects(hammer.getBoundingBox());
+    }
+
+    /**
+     * Checks if Mario is touching a barrel.
+     */
+    public boolean isTouchingBarrel(Barrel barrel) {
+        BoundingBox marioBounds = mario.getBoundingBox();
+        return marioBounds.intersects(barrel.getBoundingBox());
+    }
+
+    /**
+     * Checks if Mario is touching a monkey of either kind.
+     */
+    public boolean isTouchingMonkey(Monkey monkey) {
+        if (monkey.isDestroyed()) return false;
+        BoundingBox marioBounds = mario.getBoundingBox();
+        return marioBounds.intersects(monkey.getBoundingBox());
+    }
+
+    /**
+     * Checks if Mario is touching a projectile, such as a banana.
+     */
+    public boolean isTouchingProjectile(ProjectileSystem projectiles, int index) {
+        return projectiles.intersects(index, mario.getBoundingBox());
+    }
+
+    /**
+     * Checks if Mario is touching a blaster.
+     */
+    public boolean isTouchingBlaster(Blaster blaster) {
+        if (blaster.isCollected()) return false;
+        BoundingBox marioBounds = mario.getBoundingBox();
+        return marioBounds.intersects(blaster.getBoundingBox());
+    }
+
+    /**
+     * Checks if Mario has reached Donkey Kong.
+     */
+    public boolean hasReached(Donkey donkey) {
+        BoundingBox marioBounds = mario.getBoundingBox();
+        return marioBounds.intersects(donkey.getBoundingBox());
+    }
+
+    /**
+     * Determines if Mario successfully jumps over a barrel.
+     */
+    public boolean jumpOver(Barrel barrel) {
+        return !barrel.isDestroyed() &&
+                mario.isJumping() &&
+                Math.abs(mario.getX() - barrel.getX()) <= 1 &&
+                (mario.getY() < barrel.getY()) &&
+                ((mario.getY() + mario.getHeight() / 2) >=
+                        (barrel.getY() + barrel.getHeight() / 2 -
+                                JUMP_OVER_DROP - mario.getHeight() / 2));
+    }
+}
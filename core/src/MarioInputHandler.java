@@ -1,6 +1,3 @@
-import bagel.*;
-import java.util.ArrayList;
-
 /**
  * Handles all input processing and game logic for Mario including movement, 
  * jumping, climbing, weapon collection, and shooting.
@@ -19,19 +16,35 @@ public class MarioInputHandler {
 
     private final Mario mario;
     private final MarioCollisionDetector collisionDetector;
-    private final ArrayList<Bullet> bullets = new ArrayList<>();
+    private final ProjectileSystem projectiles;
     private int shootCooldown = 0;
 
-    public MarioInputHandler(Mario mario, MarioCollisionDetector collisionDetector) {
+    public MarioInputHandler(Mario mario, MarioCollisionDetector collisionDetector,
+                             ProjectileSystem projectiles) {
         this.mario = mario;
         this.collisionDetector = collisionDetector;
+        this.projectiles = projectiles;
+    }
+
+    /**
+     * Gets the number of ticks before Mario can shoot again.
+     */
+    public int getShootCooldown() {
+        return shootCooldown;
+    }
+
+    /**
+     * Sets the number of ticks before Mario can shoot again.
+     */
+    public void setShootCooldown(int shootCooldown) {
+        this.shootCooldown = shootCooldown;
     }
 
     /**
-     * Processes all input and updates Mario's state accordingly.
+     * Processes input and updates Mario's state up to the physics step.
      */
-    public void handleInput(Input input, Ladder[] ladders, Platform[] platforms,
-                            Hammer[] hammers, Blaster[] blasters, int[] bulletCounter) {
+    public void handleInput(int input, StaticBVH<Ladder> ladders,
+                            StaticBVH<Hammer> hammers, StaticBVH<Blaster> blasters, int[] bulletCounter) {
 
         // 1. Handle horizontal movement
         handleHorizontalMovement(input);
@@ -50,31 +63,37 @@ public class MarioInputHandler {
         // 4. Handle ladder climbing
         boolean isOnLadder = handleLadders(input, ladders);
 
-        // 5. Apply physics
-        applyPhysics(isOnLadder);
+        // 5. Let the physics step apply gravity unless Mario is on a ladder
+        mario.setGravityEnabled(!isOnLadder);
+    }
 
-        // 6. Handle platform collisions
-        boolean onPlatform = collisionDetector.handlePlatforms(platforms);
+    /**
+     * Finishes processing input after the physics step has moved Mario
+     * and snapped him onto any platform he landed on.
+     */
+    public void finishInput(int input) {
+        // 6. Handle platform landing
+        boolean onPlatform = mario.isOnPlatform();
+        if (onPlatform) {
+            mario.setJumping(false);
+        }
 
         // 7. Handle jumping
-        boolean wantsToJump = input.wasPressed(Keys.SPACE);
+        boolean wantsToJump = PlayerInput.isSet(input, PlayerInput.JUMP);
         handleJumping(onPlatform, wantsToJump);
 
         // 8. Enforce boundaries
         enforceBoundaries();
-
-        // 9. Update bullets
-        updateBullets();
     }
 
     /**
      * Handles horizontal movement based on player input.
      */
-    private void handleHorizontalMovement(Input input) {
-        if (input.isDown(Keys.LEFT)) {
+    private void handleHorizontalMovement(int input) {
+        if (PlayerInput.isSet(input, PlayerInput.LEFT)) {
             mario.setX(mario.getX() - MOVE_SPEED);
             mario.setFacingRight(false);
-        } else if (input.isDown(Keys.RIGHT)) {
+        } else if (PlayerInput.isSet(input, PlayerInput.RIGHT)) {
             mario.setX(mario.getX() + MOVE_SPEED);
             mario.setFacingRight(true);
         }
@@ -87,13 +106,21 @@ public class MarioInputHandler {
      * Mario can only climb if he is within the horizontal boundaries of the ladder.
      * He stops sliding unintentionally when not pressing movement keys.
      *
-     * @param input   The {@link Input} object that checks for user key presses.
-     * @param ladders An array of {@link Ladder} objects representing ladders in the game.
+     * Only ladders near Mario are visited. Standing on top of a ladder only touches its edge,
+     * and climbing one ladder can move Mario onto the next, so the search area is Mario's box
+     * grown by one climb step.
+     *
+     * @param input   The {@link PlayerInput} mask of keys held this tick.
+     * @param ladders The tree of {@link Ladder} objects in the level.
      * @return {@code true} if Mario is on a ladder, {@code false} otherwise.
      */
-    private boolean handleLadders(Input input, Ladder[] ladders) {
+    private boolean handleLadders(int input, StaticBVH<Ladder> ladders) {
         boolean isOnLadder = false;
-        for (Ladder ladder : ladders) {
+        BoundingBox marioBounds = mario.getBoundingBox();
+        int nearbyLadders = ladders.query(marioBounds.left(), marioBounds.top() - CLIMB_SPEED,
+                marioBounds.right(), marioBounds.bottom() + CLIMB_SPEED);
+        for (int i = 0; i < nearbyLadders; i++) {
+            Ladder ladder = ladders.getHit(i);
             double ladderLeft = ladder.getX() - (ladder.getWidth() / 2);
             double ladderRight = ladder.getX() + (ladder.getWidth() / 2);
             double marioRight = mario.getX() + (mario.getWidth() / 2);
@@ -107,18 +134,18 @@ public class MarioInputHandler {
                     isOnLadder = true;
 
                     // Stop Mario from sliding up when not moving
-                    if (!input.isDown(Keys.UP) && !input.isDown(Keys.DOWN)) {
+                    if (!PlayerInput.isSet(input, PlayerInput.UP) && !PlayerInput.isSet(input, PlayerInput.DOWN)) {
                         mario.setVelocityY(0);  // Prevent sliding inertia effect
                     }
 
                     // ----------- Climb UP -----------
-                    if (input.isDown(Keys.UP)) {
+                    if (PlayerInput.isSet(input, PlayerInput.UP)) {
                         mario.setY(mario.getY() - CLIMB_SPEED);
                         mario.setVelocityY(0);
                     }
 
                     // ----------- Climb DOWN -----------
-                    if (input.isDown(Keys.DOWN)) {
+                    if (PlayerInput.isSet(input, PlayerInput.DOWN)) {
                         double nextY = mario.getY() + CLIMB_SPEED;
                         double nextBottom = nextY + (mario.getHeight() / 2);
 
@@ -133,12 +160,12 @@ public class MarioInputHandler {
                         }
                     }
                 }
-            } else if (marioBottom == ladderTop && input.isDown(Keys.DOWN) && (marioRight - mario.getWidth() / 2 > ladderLeft && marioRight - mario.getWidth() / 2 < ladderRight)) {
+            } else if (marioBottom == ladderTop && PlayerInput.isSet(input, PlayerInput.DOWN) && (marioRight - mario.getWidth() / 2 > ladderLeft && marioRight - mario.getWidth() / 2 < ladderRight)) {
                 double nextY = mario.getY() + CLIMB_SPEED;
                 mario.setY(nextY);
                 mario.setVelocityY(0); // ignore gravity
                 isOnLadder = true;
-            } else if (marioBottom == ladderBottom && input.isDown(Keys.DOWN) && (marioRight - mario.getWidth() / 2 > ladderLeft && marioRight - mario.getWidth() / 2 < ladderRight)) {
+            } else if (marioBottom == ladderBottom && PlayerInput.isSet(input, PlayerInput.DOWN) && (marioRight - mario.getWidth() / 2 > ladderLeft && marioRight - mario.getWidth() / 2 < ladderRight)) {
                 mario.setVelocityY(0); // ignore gravity
                 isOnLadder = true;
             }
@@ -146,19 +173,6 @@ public class MarioInputHandler {
         return isOnLadder;
     }
 
-    /**
-     * Applies gravity and vertical movement.
-     */
-    private void applyPhysics(boolean isOnLadder) {
-        if (!isOnLadder) {
-            mario.setVelocityY(mario.getVelocityY() + Physics.MARIO_GRAVITY);
-            mario.setVelocityY(Math.min(Physics.MARIO_TERMINAL_VELOCITY, mario.getVelocityY()));
-        }
-
-        // Apply vertical movement
-        mario.setY(mario.getY() + mario.getVelocityY());
-    }
-
     /**
      * Handles jumping when Mario is on a platform and jump is requested.
      */
@@ -170,8 +184,8 @@ public class MarioInputHandler {
 
         // Prevent falling below screen
         double bottomOfMario = mario.getY() + (mario.getHeight() / 2);
-        if (bottomOfMario > ShadowDonkeyKong.getScreenHeight()) {
-            mario.setY(ShadowDonkeyKong.getScreenHeight() - (mario.getHeight() / 2));
+        if (bottomOfMario > mario.getScreenHeight()) {
+            mario.setY(mario.getScreenHeight() - (mario.getHeight() / 2));
             mario.setVelocityY(0);
             mario.setJumping(false);
         }
@@ -188,47 +202,53 @@ public class MarioInputHandler {
             mario.setX(halfW);
         }
 
-        double maxX = ShadowDonkeyKong.getScreenWidth() - halfW;
+        double maxX = mario.getScreenWidth() - halfW;
         if (mario.getX() > maxX) {
             mario.setX(maxX);
         }
 
         // Bottom boundary
         double bottomOfMario = mario.getY() + (mario.getHeight() / 2);
-        if (bottomOfMario > ShadowDonkeyKong.getScreenHeight()) {
-            mario.setY(ShadowDonkeyKong.getScreenHeight() - (mario.getHeight() / 2));
+        if (bottomOfMario > mario.getScreenHeight()) {
+            mario.setY(mario.getScreenHeight() - (mario.getHeight() / 2));
             mario.setVelocityY(0);
             mario.setJumping(false);
         }
     }
 
     /**
-     * Handles hammer collection.
+     * Handles hammer collection. Collected hammers are removed from the tree, so every hit is uncollected.
      */
-    private void handleHammerCollection(Hammer[] hammers) {
-        for (Hammer hammer : hammers) {
-            if (hammer != null && !hammer.isCollected() && collisionDetector.isTouchingHammer(hammer)) {
+    private void handleHammerCollection(StaticBVH<Hammer> hammers) {
+        int nearbyHammers = hammers.query(mario.getBoundingBox());
+        for (int i = 0; i < nearbyHammers; i++) {
+            Hammer hammer = hammers.getHit(i);
+            if (collisionDetector.isTouchingHammer(hammer)) {
                 if (mario.hasBlaster()) {
                     mario.setHasBlaster(false);
                 }
                 mario.setHasHammer(true);
                 hammer.collect();
+                hammers.remove(hammers.getHitIndex(i));
                 break;
             }
         }
     }
 
     /**
-     * Handles blaster collection.
+     * Handles blaster collection. Collected blasters are removed from the tree, so every hit is uncollected.
      */
-    private void handleBlasterCollection(Blaster[] blasters, int[] bulletCounter) {
-        for (Blaster blaster : blasters) {
-            if (blaster != null && !blaster.isCollected() && collisionDetector.isTouchingBlaster(blaster)) {
+    private void handleBlasterCollection(StaticBVH<Blaster> blasters, int[] bulletCounter) {
+        int nearbyBlasters = blasters.query(mario.getBoundingBox());
+        for (int i = 0; i < nearbyBlasters; i++) {
+            Blaster blaster = blasters.getHit(i);
+            if (collisionDetector.isTouchingBlaster(blaster)) {
                 if (mario.hasHammer()) {
                     mario.setHasHammer(false);
                 }
                 mario.setHasBlaster(true);
                 blaster.collect();
+                blasters.remove(blasters.getHitIndex(i));
 
                 if (bulletCounter != null && bulletCounter.length > 0) {
                     bulletCounter[0] += BULLETS_PER_BLASTER;
@@ -241,42 +261,22 @@ public class MarioInputHandler {
     /**
      * Handles shooting logic.
      */
-    private void handleShooting(Input input, int[] bulletCounter) {
+    private void handleShooting(int input, int[] bulletCounter) {
         if (shootCooldown > 0) {
             shootCooldown--;
         }
 
-        if (mario.hasBlaster() && input.wasPressed(Keys.S) &&
+        if (mario.hasBlaster() && PlayerInput.isSet(input, PlayerInput.SHOOT) &&
                 shootCooldown == 0 && bulletCounter[0] > 0) {
 
             double bulletX = mario.getX() + (mario.isFacingRight() ? BULLET_OFFSET_X : -BULLET_OFFSET_X);
             double bulletY = mario.getY() + BULLET_OFFSET_Y;
 
-            bullets.add(new Bullet(bulletX, bulletY, mario.isFacingRight()));
-            bulletCounter[0]--;
-            shootCooldown = COOLDOWN_FRAMES;
-        }
-    }
-
-    /**
-     * Updates all bullets.
-     */
-    private void updateBullets() {
-        ArrayList<Bullet> bulletsToRemove = new ArrayList<>();
-
-        for (Bullet bullet : bullets) {
-            if (bullet.update()) {
-                bulletsToRemove.add(bullet);
+            // A shot over the bullet cap is dropped without spending a bullet
+            if (projectiles.fire(ProjectileSystem.BULLET, bulletX, bulletY, mario.isFacingRight())) {
+                bulletCounter[0]--;
+                shootCooldown = COOLDOWN_FRAMES;
             }
         }
-
-        bullets.removeAll(bulletsToRemove);
-    }
-
-    /**
-     * Gets all active bullets.
-     */
-    public ArrayList<Bullet> getBullets() {
-        return bullets;
     }
 }
\ No newline at end of file
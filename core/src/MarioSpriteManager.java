@@ -0,0 +1,101 @@
+/**
+ * Handles Mario's sprite selection and the dimensions that follow from it.
+ * The selected sprite path is read by the renderer to draw Mario.
+ */
+public class MarioSpriteManager {
+    // Mario images for different states
+    private static final String MARIO_RIGHT_IMAGE = "res/mario_right.png";
+    private static final String MARIO_LEFT_IMAGE = "res/mario_left.png";
+    private static final String MARIO_HAMMER_LEFT_IMAGE = "res/mario_hammer_left.png";
+    private static final String MARIO_HAMMER_RIGHT_IMAGE = "res/mario_hammer_right.png";
+    private static final String MARIO_BLASTER_RIGHT_IMAGE = "res/mario_blaster_right.png";
+    private static final String MARIO_BLASTER_LEFT_IMAGE = "res/mario_blaster_left.png";
+
+    // Every image, numbered for snapshots
+    private static final String[] IMAGES = {
+            MARIO_RIGHT_IMAGE, MARIO_LEFT_IMAGE,
+            MARIO_HAMMER_RIGHT_IMAGE, MARIO_HAMMER_LEFT_IMAGE,
+            MARIO_BLASTER_RIGHT_IMAGE, MARIO_BLASTER_LEFT_IMAGE
+    };
+
+    private String currentImage;
+    private final Mario mario;
+
+    public MarioSpriteManager(Mario mario) {
+        this.mario = mario;
+
+        // Default to hammer right image
+        this.currentImage = MARIO_HAMMER_RIGHT_IMAGE;
+
+        // Set initial dimensions
+        mario.setWidth(Sprites.getWidth(currentImage));
+        mario.setHeight(Sprites.getHeight(currentImage));
+    }
+
+    /**
+     * Updates Mario's sprite based on his current state.
+     */
+    public void updateSprite() {
+        // Remember old image for height adjustment
+        String oldImage = currentImage;
+        double oldHeight = Sprites.getHeight(oldImage);
+        double oldBottom = mario.getY() + (oldHeight / 2);
+
+        // Select new image based on state and direction
+        if (mario.hasHammer()) {
+            currentImage = mario.isFacingRight() ? MARIO_HAMMER_RIGHT_IMAGE : MARIO_HAMMER_LEFT_IMAGE;
+        } else if (mario.hasBlaster()) {
+            currentImage = mario.isFacingRight() ? MARIO_BLASTER_RIGHT_IMAGE : MARIO_BLASTER_LEFT_IMAGE;
+        } else {
+            currentImage = mario.isFacingRight() ? MARIO_RIGHT_IMAGE : MARIO_LEFT_IMAGE;
+        }
+
+        // Adjust Mario's position to keep bottom edge consistent
+        double newHeight = Sprites.getHeight(currentImage);
+        double newBottom = mario.getY() + (newHeight / 2);
+
+        // Shift Y position to maintain bottom edge alignment
+        mario.setY(mario.getY() - (newBottom - oldBottom));
+
+        // Update Mario's dimensions
+        mario.setWidth(Sprites.getWidth(currentImage));
+        mario.setHeight(newHeight);
+    }
+
+    /**
+     * Gets the path of the sprite Mario is currently drawn with.
+     */
+    public String getCurrentImage() {
+        return currentImage;
+    }
+
+    /**
+     * Gets the number of the current image, for snapshots.
+     */
+    public int getImageIndex() {
+        for (int i = 0; i < IMAGES.length; i++) {
+            if (IMAGES[i].equals(currentImage)) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("Unknown Mario image " + currentImage);
+    }
+
+    /**
+     * Sets the current image by its number. Mario's size is restored with the physics world's state.
+     */
+    public void setImageIndex(int index) {
+        currentImage = IMAGES[index];
+    }
+
+    /**
+     * Gets the current image dimensions.
+     */
+    public double getWidth() {
+        return Sprites.getWidth(currentImage);
+    }
+
+    public double getHeight() {
+        return Sprites.getHeight(currentImage);
+    }
+}
\ No newline at end of file
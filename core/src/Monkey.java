@@ -0,0 +1,233 @@
+import java.nio.ByteBuffer;
+
+/**
+ * Abstract base class for different monkey types in the game.
+ * Provides common properties and behaviors for all monkey variants.
+ */
+public abstract class Monkey implements Collider, EntityStore.Bodied, EntityStore.Member, Snapshottable {
+    // Common properties
+    protected double velocity;
+    protected boolean isFacingRight;
+    protected int[] waypoints;
+    protected double width;
+    protected double height;
+    protected boolean isDestroyed;
+
+    // Position, falling speed and bounding box are owned by the physics world
+    private final PhysicsWorld physics;
+    private final int body;
+
+    // The store holding the monkey, which drops it once destroyed
+    private EntityStore store;
+    private int handle = EntityStore.NO_HANDLE;
+
+    // Constants
+    protected static final double MONKEY_SPEED = 0.5;
+
+    /**
+     * Creates a new monkey at the specified position.
+     *
+     * @param x The initial x-coordinate
+     * @param y The initial y-coordinate
+     * @param direction Initial facing direction ("left" or "right")
+     * @param waypoints Array of waypoint distances for monkey movement
+     * @param physics The physics world that moves the monkey
+     * @param bodyType The monkey's body type in the physics world
+     */
+    public Monkey(double x, double y, String direction, int[] waypoints, PhysicsWorld physics, int bodyType) {
+        this.physics = physics;
+        this.body = physics.addBody(bodyType, x, y, 0, 0);
+        this.isFacingRight = "right".equalsIgnoreCase(direction);
+        this.velocity = isFacingRight ? MONKEY_SPEED : -MONKEY_SPEED;
+        this.waypoints = waypoints;
+        this.isDestroyed = false;
+    }
+
+    /**
+     * Updates the monkey's horizontal movement and state.
+     * Falling and landing on platforms are handled by the physics world beforehand.
+     *
+     * @param table The monkey's table in the entity store, whose patrol columns hold its route progress
+     * @param row   The monkey's row in the table
+     */
+    public abstract void update(EntityStore.Archetype table, int row);
+
+    /**
+     * Gets the path of the sprite the monkey is currently drawn with.
+     *
+     * @return The sprite path
+     */
+    @Override
+    public abstract String getSpritePath();
+
+    /**
+     * Marks the monkey as destroyed and removes it from the store.
+     */
+    public void destroy() {
+        this.isDestroyed = true;
+        physics.setActive(body, false);
+        if (store != null) {
+            store.remove(handle);
+        }
+    }
+
+    /**
+     * Remembers the store holding the monkey and its handle there.
+     *
+     * @param store  The store holding the monkey
+     * @param handle The monkey's handle
+     */
+    @Override
+    public void attach(EntityStore store, int handle) {
+        this.store = store;
+        this.handle = handle;
+    }
+
+    /**
+     * Marks the monkey as destroyed when restoring a snapshot drops it from the store.
+     */
+    @Override
+    public void detach() {
+        this.isDestroyed = true;
+        this.handle = EntityStore.NO_HANDLE;
+    }
+
+    /**
+     * Checks if the monkey is destroyed.
+     *
+     * @return true if the monkey is destroyed, false otherwise
+     */
+    public boolean isDestroyed() {
+        return isDestroyed;
+    }
+
+    /**
+     * Writes the monkey's direction; its position is part of the physics world's state,
+     * and its route progress is in the entity store's patrol columns.
+     *
+     * @param out The buffer to write to
+     */
+    @Override
+    public void writeState(ByteBuffer out) {
+        out.put((byte) ((isFacingRight ? 1 : 0) | (isDestroyed ? 2 : 0)));
+        out.putDouble(velocity);
+    }
+
+    /**
+     * Reads back the monkey's direction and picks the sprite for it.
+     *
+     * @param in The buffer to read from
+     */
+    @Override
+    public void readState(ByteBuffer in) {
+        byte flags = in.get();
+        isFacingRight = (flags & 1) != 0;
+        isDestroyed = (flags & 2) != 0;
+        velocity = in.getDouble();
+        changeSprite();
+    }
+
+    /**
+     * Checks if the monkey can still be hit.
+     *
+     * @return true until the monkey is destroyed
+     */
+    @Override
+    public boolean isCollidable() {
+        return !isDestroyed;
+    }
+
+    /**
+     * Checks if the monkey is at the edge of a platform.
+     *
+     * @param platforms The platforms to check
+     * @return true if the monkey is at an edge, false otherwise
+     */
+    public boolean isAtEdge(Platform[] platforms) {
+        // Check if the monkey is at the edge of any platform
+        for (Platform platform : platforms) {
+            if (platform == null) continue;
+
+            // Get platform bounds
+            double platformLeft = platform.getX() - platform.getWidth() / 2;
+            double platformRight = platform.getX() + platform.getWidth() / 2;
+
+            // Check if monkey is on this platform and at its edge
+            if (Math.abs(getY() - platform.getY() + this.height / 2) < 5) {
+                if ((isFacingRight && Math.abs(getX() + this.width / 2 - platformRight) < 5) ||
+                        (!isFacingRight && Math.abs(getX() - this.width / 2 - platformLeft) < 5)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Changes the monkey's sprite based on direction.
+     */
+    public abstract void changeSprite();
+
+    /**
+     * Gets the handle of the monkey's body in the physics world.
+     *
+     * @return The body handle
+     */
+    @Override
+    public int getBody() {
+        return body;
+    }
+
+    /**
+     * Gets the bounding box of the monkey for collision detection.
+     *
+     * @return A BoundingBox representing the monkey's bounding box
+     */
+    @Override
+    public BoundingBox getBoundingBox() {
+        return physics.getBoundingBox(body);
+    }
+
+    /**
+     * Gets the platform the monkey landed on during the last physics step.
+     *
+     * @return The platform under the monkey, or null if it is falling
+     */
+    protected Platform getSupportingPlatform() {
+        return physics.getSupport(body);
+    }
+
+    /**
+     * Sets the monkey's size from its sprite.
+     *
+     * @param width The width of the monkey
+     * @param height The height of the monkey
+     */
+    protected void setSize(double width, double height) {
+        this.width = width;
+        this.height = height;
+        physics.setWidth(body, width);
+        physics.setHeight(body, height);
+    }
+
+    // Getters and setters for position and dimensions
+    public double getX() {
+        return physics.getX(body);
+    }
+
+    protected void setX(double x) {
+        physics.setX(body, x);
+    }
+
+    public double getY() {
+        return physics.getY(body);
+    }
+
+    public double getWidth() {
+        return width;
+    }
+
+    public double getHeight() {
+        return height;
+    }
+}
\ No newline at end of file
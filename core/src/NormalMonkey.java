@@ -1,19 +1,13 @@
-import bagel.*;
-import bagel.util.Rectangle;
-
 /**
  * Represents a normal monkey enemy that moves back and forth on platforms.
  */
 public class NormalMonkey extends Monkey {
     // Sprite images
-    private static final Image NORMAL_MONKEY_RIGHT_IMAGE = new Image("res/normal_monkey_right.png");
-    private static final Image NORMAL_MONKEY_LEFT_IMAGE = new Image("res/normal_monkey_left.png");
+    private static final String NORMAL_MONKEY_RIGHT_IMAGE = "res/normal_monkey_right.png";
+    private static final String NORMAL_MONKEY_LEFT_IMAGE = "res/normal_monkey_left.png";
 
     // Current sprite
-    private Image currentImage;
-
-    // Velocity for gravity
-    private double velocityY = 0;
+    private String currentImage;
 
     /**
      * Creates a new normal monkey at the specified position.
@@ -22,68 +16,52 @@ public class NormalMonkey extends Monkey {
      * @param y The initial y-coordinate
      * @param direction Initial facing direction ("left" or "right")
      * @param waypoints Array of waypoint distances for monkey movement
+     * @param physics The physics world that moves the monkey
      */
-    public NormalMonkey(double x, double y, String direction, int[] waypoints) {
+    public NormalMonkey(double x, double y, String direction, int[] waypoints, PhysicsWorld physics) {
         // Call super constructor with the waypoints array
-        super(x, y, direction, waypoints);
+        super(x, y, direction, waypoints, physics, PhysicsWorld.NORMAL_MONKEY);
 
-        this.width = NORMAL_MONKEY_RIGHT_IMAGE.getWidth();
-        this.height = NORMAL_MONKEY_RIGHT_IMAGE.getHeight();
+        setSize(Sprites.getWidth(NORMAL_MONKEY_RIGHT_IMAGE), Sprites.getHeight(NORMAL_MONKEY_RIGHT_IMAGE));
 
         changeSprite();
     }
 
     /**
-     * Updates the monkey's position and handles movement based on waypoints and platform edges.
+     * Gets the collision layer of normal monkeys.
      *
-     * @param platforms The platforms to check for collisions
+     * @return {@link CollisionLayers#NORMAL_MONKEY}
      */
     @Override
-    public void update(Platform[] platforms) {
+    public int getCollisionLayer() {
+        return CollisionLayers.NORMAL_MONKEY;
+    }
+
+    /**
+     * Updates the monkey's position and handles movement based on waypoints and platform edges.
+     */
+    @Override
+    public void update(EntityStore.Archetype table, int row) {
         if (isDestroyed) return;
 
-        // Apply gravity
-        velocityY += Physics.NORMAL_MONKEY_GRAVITY;
-        velocityY = Math.min(Physics.NORMAL_MONKEY_TERMINAL_VELOCITY, velocityY);
-
-        // Move vertically based on gravity
-        y += velocityY;
-
-        // Check platform collisions
-        boolean onPlatform = false;
-        Platform currentPlatform = null;
-
-        for (Platform platform : platforms) {
-            if (platform == null) continue;
-
-            double monkeyBottom = y + height/2;
-            double platformTop = platform.getY() - platform.getHeight()/2;
-
-            // Check if monkey's feet are on the platform
-            if (Math.abs(monkeyBottom - platformTop) < 5 &&
-                    x + width/2 >= platform.getX() - platform.getWidth()/2 &&
-                    x - width/2 <= platform.getX() + platform.getWidth()/2) {
-                // Snap to platform
-                y = platformTop - height/2;
-                velocityY = 0;
-                onPlatform = true;
-                currentPlatform = platform;
-                break;
-            }
-        }
+        // Platform contact was resolved by the physics step
+        Platform currentPlatform = getSupportingPlatform();
+        boolean onPlatform = currentPlatform != null;
 
         // Only move horizontally if on a platform
         if (onPlatform) {
             // Move horizontally
-            x += velocity;
+            setX(getX() + velocity);
 
             // Update distance traveled
-            distanceTravelled += Math.abs(velocity);
+            int routeIndex = table.getRouteIndex(row);
+            double distanceTravelled = table.getRouteDistance(row) + Math.abs(velocity);
+            table.setRouteDistance(row, distanceTravelled);
 
             // Check if reached current waypoint
             boolean reachedWaypoint = false;
             if (waypoints != null && waypoints.length > 0 &&
-                    distanceTravelled >= waypoints[currentRouteIndex]) {
+                    distanceTravelled >= waypoints[routeIndex]) {
                 reachedWaypoint = true;
             }
 
@@ -94,8 +72,8 @@ public class NormalMonkey extends Monkey {
                 double platformRight = currentPlatform.getX() + currentPlatform.getWidth()/2;
 
                 // Check if the monkey would walk off the platform
-                if ((isFacingRight && x + width/2 + velocity > platformRight) ||
-                        (!isFacingRight && x - width/2 + velocity < platformLeft)) {
+                if ((isFacingRight && getX() + width/2 + velocity > platformRight) ||
+                        (!isFacingRight && getX() - width/2 + velocity < platformLeft)) {
                     atPlatformEdge = true;
                 }
             }
@@ -109,21 +87,21 @@ public class NormalMonkey extends Monkey {
 
                 // Reset distance and update waypoint index if reached waypoint
                 if (reachedWaypoint && waypoints != null && waypoints.length > 0) {
-                    distanceTravelled = 0;
-                    currentRouteIndex = (currentRouteIndex + 1) % waypoints.length;
+                    table.setRouteDistance(row, 0);
+                    table.setRouteIndex(row, (routeIndex + 1) % waypoints.length);
                 }
             }
         }
     }
 
     /**
-     * Draws the monkey on screen.
+     * Gets the path of the sprite for the monkey's current direction.
+     *
+     * @return The sprite path
      */
     @Override
-    public void draw() {
-        if (!isDestroyed) {
-            currentImage.draw(x, y);
-        }
+    public String getSpritePath() {
+        return currentImage;
     }
 
     /**
@@ -0,0 +1,641 @@
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Properties;
+
+/**
+ * Owns the state of every gravity-affected body in a level and moves them all together.
+ * Each tick, {@link #step(PlatformIndex)} first integrates gravity for every body in one pass,
+ * then moves each body and resolves its platform contacts in a second pass, in as many
+ * sub-steps as its type is configured for (one by default). Mario's landing is swept, so no
+ * fall speed can carry him through a platform between two ticks. Body state lives in parallel primitive
+ * arrays indexed by the handle returned from {@link #addBody}; entities keep only the handle
+ * and read their position and bounding box through it.
+ * <p>
+ * A body that ends a step exactly as it started it, resting on a platform, would repeat that
+ * step forever, so it is put to sleep and skipped until one of its properties is changed.
+ * Only awake bodies are visited each tick, so settled ladders, barrels and Donkey cost nothing.
+ * {@link #settle} places those props on their platforms when a level is loaded.
+ */
+public class PhysicsWorld implements Snapshottable {
+    // Body types, indexing the per-type tables below
+    public static final int MARIO = 0;
+    public static final int DONKEY = 1;
+    public static final int LADDER = 2;
+    public static final int BARREL = 3;
+    public static final int NORMAL_MONKEY = 4;
+    public static final int INTEL_MONKEY = 5;
+
+    // Contact rules
+    private static final int LAND_ON_OVERLAP = 0; // Snap onto the first platform the body overlaps
+    private static final int LAND_ON_FEET = 1;    // Snap onto a platform whose top is within reach of the feet
+    private static final int LAND_FROM_ABOVE = 2; // Snap onto a platform only when falling onto it from above
+
+    /**
+     * How close a monkey's feet must be to a platform's top for the monkey to stand on it.
+     */
+    private static final double FEET_SNAP_DISTANCE = 5;
+
+    private static final double[] GRAVITY = {
+            Physics.MARIO_GRAVITY,
+            Physics.DONKEY_GRAVITY,
+            Physics.LADDER_GRAVITY,
+            Physics.BARREL_GRAVITY,
+            Physics.NORMAL_MONKEY_GRAVITY,
+            Physics.INTEL_MONKEY_GRAVITY
+    };
+    private static final double[] TERMINAL_VELOCITY = {
+            Physics.MARIO_TERMINAL_VELOCITY,
+            Physics.DONKEY_TERMINAL_VELOCITY,
+            Physics.LADDER_TERMINAL_VELOCITY,
+            Physics.BARREL_TERMINAL_VELOCITY,
+            Physics.NORMAL_MONKEY_TERMINAL_VELOCITY,
+            Physics.INTEL_MONKEY_TERMINAL_VELOCITY
+    };
+    private static final int[] CONTACT_RULE = {
+            LAND_FROM_ABOVE, // Mario
+            LAND_ON_OVERLAP, // Donkey
+            LAND_ON_OVERLAP, // Ladder
+            LAND_ON_OVERLAP, // Barrel
+            LAND_ON_FEET,    // Normal monkey
+            LAND_ON_FEET     // Intelligent monkey
+    };
+
+    // Property keys of each type's sub-step count, in type order
+    private static final String[] SUBSTEP_KEYS = {
+            "physics.substeps.mario",
+            "physics.substeps.donkey",
+            "physics.substeps.ladder",
+            "physics.substeps.barrel",
+            "physics.substeps.normalMonkey",
+            "physics.substeps.intelligentMonkey"
+    };
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int NO_SUPPORT = -1;
+
+    // Moves per tick for each type, each followed by a contact check
+    private final int[] substeps = new int[SUBSTEP_KEYS.length];
+
+    // Body state, one entry per body in [0, count)
+    private int[] type = new int[INITIAL_CAPACITY];
+    private double[] x = new double[INITIAL_CAPACITY];
+    private double[] y = new double[INITIAL_CAPACITY];
+    private double[] velocityY = new double[INITIAL_CAPACITY];
+    private double[] width = new double[INITIAL_CAPACITY];
+    private double[] height = new double[INITIAL_CAPACITY];
+    private boolean[] active = new boolean[INITIAL_CAPACITY];
+    private boolean[] gravityEnabled = new boolean[INITIAL_CAPACITY];
+    private int[] support = new int[INITIAL_CAPACITY];
+    private boolean[] sleeping = new boolean[INITIAL_CAPACITY];
+    private int count = 0;
+
+    // Active bodies that are not asleep, in no particular order, and each body's slot in the list
+    private int[] awakeBodies = new int[INITIAL_CAPACITY];
+    private int[] awakeSlot = new int[INITIAL_CAPACITY];
+    private int awakeCount = 0;
+    private int sleepingCount = 0;
+
+    // State of each awake body at the start of the current step
+    private double[] startY = new double[INITIAL_CAPACITY];
+    private double[] startVelocityY = new double[INITIAL_CAPACITY];
+
+    // Cached bounding boxes, refreshed when position or size changes
+    private BoundingBox[] bounds = new BoundingBox[INITIAL_CAPACITY];
+    private boolean[] boundsDirty = new boolean[INITIAL_CAPACITY];
+
+    // Platforms of the last step, used to resolve support indices
+    private Platform[] platforms = new Platform[0];
+
+    /**
+     * Creates an empty world, reading each body type's sub-step count from the game properties.
+     * A type without a count moves once per tick; raise it for a type whose contact rule cannot
+     * catch how far it travels in one tick.
+     *
+     * @param gameProps Properties containing game configuration
+     */
+    public PhysicsWorld(Properties gameProps) {
+        for (int t = 0; t < SUBSTEP_KEYS.length; t++) {
+            substeps[t] = Math.max(1, Integer.parseInt(gameProps.getProperty(SUBSTEP_KEYS[t], "1")));
+        }
+    }
+
+    /**
+     * Adds a body to the world. Bodies start active, with gravity enabled and at rest.
+     *
+     * @param bodyType One of the body type constants, such as {@link #BARREL}
+     * @param startX   The initial x-coordinate of the body's center
+     * @param startY   The initial y-coordinate of the body's center
+     * @param bodyWidth  The width of the body
+     * @param bodyHeight The height of the body
+     * @return The handle used to access the body
+     */
+    public int addBody(int bodyType, double startX, double startY, double bodyWidth, double bodyHeight) {
+        if (count == type.length) {
+            grow();
+        }
+
+        int body = count++;
+        type[body] = bodyType;
+        x[body] = startX;
+        y[body] = startY;
+        velocityY[body] = 0;
+        width[body] = bodyWidth;
+        height[body] = bodyHeight;
+        active[body] = true;
+        gravityEnabled[body] = true;
+        support[body] = NO_SUPPORT;
+        sleeping[body] = false;
+        bounds[body] = new BoundingBox();
+        boundsDirty[body] = true;
+        addAwake(body);
+        return body;
+    }
+
+    /**
+     * Rests every active body that lands on overlap directly on the platform it would fall onto,
+     * so ladders, barrels and Donkey start the level settled instead of falling into place.
+     * The platforms under a body are gathered with one query, then its fall is replayed against
+     * only those until it first overlaps one, picking the same platform {@link #step} would.
+     * Bodies with no platform below them are left where they are.
+     *
+     * @param platformIndex The level's platform support index
+     */
+    public void settle(PlatformIndex platformIndex) {
+        platforms = platformIndex.getPlatforms();
+
+        for (int body = 0; body < count; body++) {
+            if (active[body] && gravityEnabled[body] && CONTACT_RULE[type[body]] == LAND_ON_OVERLAP) {
+                settleBody(body, platformIndex);
+            }
+        }
+    }
+
+    /**
+     * Moves one body to where its fall first overlaps a platform, without visiting the frames in between.
+     */
+    private void settleBody(int body, PlatformIndex platformIndex) {
+        BoundingBox start = getBoundingBox(body);
+        double left = start.left();
+        double right = start.right();
+        double halfHeight = height[body] / 2;
+
+        // 1) Gather the platforms the falling body could overlap, in array order
+        int candidates = platformIndex.query(left, start.top(), right, Double.POSITIVE_INFINITY);
+        double lowestBottom = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < candidates; i++) {
+            lowestBottom = Math.max(lowestBottom, platformIndex.getHit(i).getBoundingBox().bottom());
+        }
+
+        // 2) Replay the fall tick by tick until the first overlap
+        int t = type[body];
+        double fallY = y[body];
+        double fallVelocity = velocityY[body];
+        while (fallY - halfHeight < lowestBottom) {
+            fallVelocity = Math.min(TERMINAL_VELOCITY[t], fallVelocity + GRAVITY[t]);
+            fallY += fallVelocity;
+
+            for (int i = 0; i < candidates; i++) {
+                BoundingBox platformBounds = platformIndex.getHit(i).getBoundingBox();
+                double top = fallY - halfHeight;
+                if (BoundingBox.intersects(left, top, right, top + height[body],
+                        platformBounds.left(), platformBounds.top(), platformBounds.right(), platformBounds.bottom())) {
+                    // 3) Rest the body on the platform, as the contact pass would
+                    y[body] = platformBounds.top() - halfHeight;
+                    velocityY[body] = 0;
+                    boundsDirty[body] = true;
+                    support[body] = platformIndex.getHitIndex(i);
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Advances every awake body by one tick.
+     *
+     * @param platformIndex The level's platform support index
+     */
+    public void step(PlatformIndex platformIndex) {
+        platforms = platformIndex.getPlatforms();
+
+        // 1) Integrate gravity
+        for (int i = 0; i < awakeCount; i++) {
+            int body = awakeBodies[i];
+            startY[body] = y[body];
+            startVelocityY[body] = velocityY[body];
+            support[body] = NO_SUPPORT;
+
+            if (gravityEnabled[body]) {
+                int t = type[body];
+                velocityY[body] = Math.min(TERMINAL_VELOCITY[t], velocityY[body] + GRAVITY[t]);
+            }
+        }
+
+        // 2) Move each body and resolve platform contacts, stopping once it lands
+        for (int i = 0; i < awakeCount; i++) {
+            int body = awakeBodies[i];
+            int steps = substeps[type[body]];
+            double move = steps == 1 ? velocityY[body] : velocityY[body] / steps;
+            for (int s = 0; s < steps && support[body] == NO_SUPPORT; s++) {
+                y[body] += move;
+                boundsDirty[body] = true;
+                resolveContact(body, move, platformIndex);
+            }
+        }
+
+        // 3) Put bodies that landed back where they started to sleep
+        // Walk backwards so a body leaving the list does not skip the next one
+        for (int i = awakeCount - 1; i >= 0; i--) {
+            int body = awakeBodies[i];
+            if (support[body] != NO_SUPPORT && y[body] == startY[body]
+                    && velocityY[body] == startVelocityY[body]) {
+                removeAwake(body);
+                sleeping[body] = true;
+                sleepingCount++;
+            }
+        }
+    }
+
+    /**
+     * Snaps a body onto the first platform it lands on, following its type's contact rule.
+     * Candidates are visited in platform-array order, so the first match is the same
+     * platform a scan of the whole array would find.
+     *
+     * @param move How far the body just moved down, negative if it moved up
+     */
+    private void resolveContact(int body, double move, PlatformIndex platformIndex) {
+        int rule = CONTACT_RULE[type[body]];
+        double halfWidth = width[body] / 2;
+        double halfHeight = height[body] / 2;
+        double bottom = y[body] + halfHeight;
+
+        // Only snap Mario to a platform while he is moving downward
+        if (rule == LAND_FROM_ABOVE) {
+            if (move >= 0) {
+                resolveSweptLanding(body, move, platformIndex);
+            }
+            return;
+        }
+
+        int candidates;
+        if (rule == LAND_ON_FEET) {
+            candidates = platformIndex.query(x[body] - halfWidth, bottom - FEET_SNAP_DISTANCE,
+                    x[body] + halfWidth, bottom + FEET_SNAP_DISTANCE);
+        } else {
+            candidates = platformIndex.query(getBoundingBox(body));
+        }
+
+        for (int i = 0; i < candidates; i++) {
+            Platform platform = platformIndex.getHit(i);
+            double platformTop = platform.getBoundingBox().top();
+
+            boolean lands;
+            if (rule == LAND_ON_FEET) {
+                lands = Math.abs(bottom - platformTop) < FEET_SNAP_DISTANCE
+                        && x[body] + halfWidth >= platform.getX() - platform.getWidth() / 2
+                        && x[body] - halfWidth <= platform.getX() + platform.getWidth() / 2;
+            } else {
+                lands = getBoundingBox(body).intersects(platform.getBoundingBox());
+            }
+
+            if (lands) {
+                // Rest the body on top of the platform
+                y[body] = platformTop - halfHeight;
+                velocityY[body] = 0;
+                boundsDirty[body] = true;
+                support[body] = platformIndex.getHitIndex(i);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Lands a body on the first platform top its feet crossed during a downward move.
+     * The move is treated as a swept box from where the body was to where it is, and the
+     * platform with the highest top crossed is the one reached first; ties go to the earliest
+     * platform. Unlike an overlap test at the end of the move, this still finds a platform
+     * the body passed all the way through.
+     *
+     * @param move How far the body just moved down
+     */
+    private void resolveSweptLanding(int body, double move, PlatformIndex platformIndex) {
+        BoundingBox bodyBounds = getBoundingBox(body);
+        double bottom = bodyBounds.bottom();
+        int candidates = platformIndex.query(bodyBounds.left(), bodyBounds.top() - move,
+                bodyBounds.right(), bottom);
+
+        int landing = -1;
+        double landingTop = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < candidates; i++) {
+            BoundingBox platformBounds = platformIndex.getHit(i).getBoundingBox();
+            double platformTop = platformBounds.top();
+
+            // The feet were at or above the top before the move and are below it now
+            boolean crossed = bottom > platformTop && bottom <= platformTop + move;
+            if (crossed && platformTop < landingTop
+                    && platformBounds.left() < bodyBounds.right() && platformBounds.right() > bodyBounds.left()) {
+                landing = i;
+                landingTop = platformTop;
+            }
+        }
+
+        if (landing >= 0) {
+            // Rest the body on top of the platform
+            y[body] = landingTop - height[body] / 2;
+            velocityY[body] = 0;
+            boundsDirty[body] = true;
+            support[body] = platformIndex.getHitIndex(landing);
+        }
+    }
+
+    /**
+     * Brings every body's cached bounding box up to date. Until a body next changes,
+     * {@link #getBoundingBox} then only reads, so boxes can be read from several threads at once.
+     */
+    public void refreshBounds() {
+        for (int body = 0; body < count; body++) {
+            if (boundsDirty[body]) {
+                bounds[body].setCentred(x[body], y[body], width[body], height[body]);
+                boundsDirty[body] = false;
+            }
+        }
+    }
+
+    /**
+     * Checks if every body's cached bounding box is up to date, as after {@link #refreshBounds}.
+     *
+     * @return true if no bounding box would be recomputed when read, false otherwise
+     */
+    public boolean areBoundsFresh() {
+        for (int body = 0; body < count; body++) {
+            if (boundsDirty[body]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets a body's bounding box, recomputing it first if the body has changed since it was last read.
+     *
+     * @param body The body's handle
+     * @return The cached bounding box, valid until the body next moves
+     */
+    public BoundingBox getBoundingBox(int body) {
+        if (boundsDirty[body]) {
+            bounds[body].setCentred(x[body], y[body], width[body], height[body]);
+            boundsDirty[body] = false;
+        }
+        return bounds[body];
+    }
+
+    /**
+     * Gets the platform a body landed on during the last step.
+     *
+     * @param body The body's handle
+     * @return The supporting platform, or null if the body is not resting on one
+     */
+    public Platform getSupport(int body) {
+        return support[body] == NO_SUPPORT ? null : platforms[support[body]];
+    }
+
+    /**
+     * Checks if a body landed on a platform during the last step.
+     *
+     * @param body The body's handle
+     * @return true if the body is resting on a platform, false otherwise
+     */
+    public boolean isGrounded(int body) {
+        return support[body] != NO_SUPPORT;
+    }
+
+    /**
+     * Enables or disables a body. Inactive bodies are not moved and do not land on platforms,
+     * such as destroyed barrels or a defeated Donkey.
+     *
+     * @param body   The body's handle
+     * @param isActive Whether the body takes part in the physics step
+     */
+    public void setActive(int body, boolean isActive) {
+        if (active[body] == isActive) {
+            return;
+        }
+        active[body] = isActive;
+
+        if (isActive) {
+            addAwake(body);
+            return;
+        }
+
+        // An inactive body is no longer stepped, so it rests on nothing
+        support[body] = NO_SUPPORT;
+        if (sleeping[body]) {
+            sleeping[body] = false;
+            sleepingCount--;
+        } else {
+            removeAwake(body);
+        }
+    }
+
+    /**
+     * Wakes a sleeping body so it is simulated again. Changing a body's position, velocity,
+     * size or gravity wakes it automatically; this is for changes the world cannot see.
+     *
+     * @param body The body's handle
+     */
+    public void wake(int body) {
+        if (sleeping[body]) {
+            sleeping[body] = false;
+            sleepingCount--;
+            addAwake(body);
+        }
+    }
+
+    /**
+     * Checks if a body is asleep.
+     *
+     * @param body The body's handle
+     * @return true if the body is resting and skipped by the physics step, false otherwise
+     */
+    public boolean isSleeping(int body) {
+        return sleeping[body];
+    }
+
+    /**
+     * Enables or disables gravity for a body. A body without gravity keeps moving at its
+     * current velocity, such as Mario while on a ladder.
+     *
+     * @param body    The body's handle
+     * @param enabled Whether gravity accelerates the body
+     */
+    public void setGravityEnabled(int body, boolean enabled) {
+        if (gravityEnabled[body] != enabled) {
+            gravityEnabled[body] = enabled;
+            wake(body);
+        }
+    }
+
+    // Setters only wake the body when the value actually changes
+    public double getX(int body) { return x[body]; }
+    public void setX(int body, double newX) {
+        if (x[body] != newX) {
+            x[body] = newX;
+            boundsDirty[body] = true;
+            wake(body);
+        }
+    }
+
+    public double getY(int body) { return y[body]; }
+    public void setY(int body, double newY) {
+        if (y[body] != newY) {
+            y[body] = newY;
+            boundsDirty[body] = true;
+            wake(body);
+        }
+    }
+
+    public double getVelocityY(int body) { return velocityY[body]; }
+    public void setVelocityY(int body, double newVelocityY) {
+        if (velocityY[body] != newVelocityY) {
+            velocityY[body] = newVelocityY;
+            wake(body);
+        }
+    }
+
+    public double getWidth(int body) { return width[body]; }
+    public void setWidth(int body, double newWidth) {
+        if (width[body] != newWidth) {
+            width[body] = newWidth;
+            boundsDirty[body] = true;
+            wake(body);
+        }
+    }
+
+    public double getHeight(int body) { return height[body]; }
+    public void setHeight(int body, double newHeight) {
+        if (height[body] != newHeight) {
+            height[body] = newHeight;
+            boundsDirty[body] = true;
+            wake(body);
+        }
+    }
+
+    /**
+     * Gets the number of bodies in the world.
+     *
+     * @return The number of bodies
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Gets the number of bodies the physics step currently simulates.
+     *
+     * @return The number of active bodies that are not asleep
+     */
+    public int getAwakeCount() {
+        return awakeCount;
+    }
+
+    /**
+     * Gets the number of bodies resting asleep on a platform.
+     *
+     * @return The number of sleeping bodies
+     */
+    public int getSleepingCount() {
+        return sleepingCount;
+    }
+
+    /**
+     * Writes every body's position, velocity, size, flags and support, and the list of awake bodies.
+     * Body types are fixed when the level is loaded and are not written.
+     *
+     * @param out The buffer to write to
+     */
+    @Override
+    public void writeState(ByteBuffer out) {
+        out.putInt(count);
+        for (int body = 0; body < count; body++) {
+            out.putDouble(x[body]);
+            out.putDouble(y[body]);
+            out.putDouble(velocityY[body]);
+            out.putDouble(width[body]);
+            out.putDouble(height[body]);
+            out.putInt(support[body]);
+            out.put((byte) ((active[body] ? 1 : 0) | (gravityEnabled[body] ? 2 : 0) | (sleeping[body] ? 4 : 0)));
+        }
+        out.putInt(awakeCount);
+        for (int i = 0; i < awakeCount; i++) {
+            out.putInt(awakeBodies[i]);
+        }
+    }
+
+    /**
+     * Reads back every body's state and the awake list, in the same order as before.
+     *
+     * @param in The buffer to read from
+     * @throws IllegalArgumentException if the snapshot has a different number of bodies
+     */
+    @Override
+    public void readState(ByteBuffer in) {
+        if (in.getInt() != count) {
+            throw new IllegalArgumentException("Snapshot bodies do not match this level");
+        }
+        sleepingCount = 0;
+        for (int body = 0; body < count; body++) {
+            x[body] = in.getDouble();
+            y[body] = in.getDouble();
+            velocityY[body] = in.getDouble();
+            width[body] = in.getDouble();
+            height[body] = in.getDouble();
+            support[body] = in.getInt();
+            byte flags = in.get();
+            active[body] = (flags & 1) != 0;
+            gravityEnabled[body] = (flags & 2) != 0;
+            sleeping[body] = (flags & 4) != 0;
+            if (sleeping[body]) {
+                sleepingCount++;
+            }
+            boundsDirty[body] = true;
+        }
+        awakeCount = 0;
+        int awake = in.getInt();
+        for (int i = 0; i < awake; i++) {
+            addAwake(in.getInt());
+        }
+    }
+
+    private void addAwake(int body) {
+        awakeSlot[body] = awakeCount;
+        awakeBodies[awakeCount++] = body;
+    }
+
+    private void removeAwake(int body) {
+        // Move the last awake body into the freed slot
+        int slot = awakeSlot[body];
+        int last = awakeBodies[--awakeCount];
+        awakeBodies[slot] = last;
+        awakeSlot[last] = slot;
+    }
+
+    private void grow() {
+        int capacity = type.length * 2;
+        type = Arrays.copyOf(type, capacity);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        velocityY = Arrays.copyOf(velocityY, capacity);
+        width = Arrays.copyOf(width, capacity);
+        height = Arrays.copyOf(height, capacity);
+        active = Arrays.copyOf(active, capacity);
+        gravityEnabled = Arrays.copyOf(gravityEnabled, capacity);
+        support = Arrays.copyOf(support, capacity);
+        sleeping = Arrays.copyOf(sleeping, capacity);
+        awakeBodies = Arrays.copyOf(awakeBodies, capacity);
+        awakeSlot = Arrays.copyOf(awakeSlot, capacity);
+        startY = Arrays.copyOf(startY, capacity);
+        startVelocityY = Arrays.copyOf(startVelocityY, capacity);
+        bounds = Arrays.copyOf(bounds, capacity);
+        boundsDirty = Arrays.copyOf(boundsDirty, capacity);
+    }
+}
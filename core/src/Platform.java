@@ -1,15 +1,12 @@
-import bagel.*;
-import bagel.util.Rectangle;
-import bagel.util.Colour;
-
 /**
  * Represents a stationary platform in the game.
  * Platforms provide surfaces for Mario to walk on and interact with.
  */
 public class Platform {
-    private final Image PLATFORM_IMAGE; // Image representing the platform
+    public static final String PLATFORM_IMAGE = "res/platform.png"; // Image representing the platform
     private final double X, Y;               // Position of the platform
     private final double WIDTH, HEIGHT; // Dimensions of the platform
+    private final BoundingBox BOUNDS;   // Platforms never move, so the box is built once
 
     /**
      * Constructs a platform at the specified position.
@@ -18,22 +15,13 @@ public class Platform {
      * @param startY The initial y-coordinate of the platform.
      */
     public Platform(double startX, double startY) {
-        // Load platform sprite
-        this.PLATFORM_IMAGE = new Image("res/platform.png");
         this.X = startX;
         this.Y = startY;
 
         // Set platform dimensions based on the image size
-        this.WIDTH = PLATFORM_IMAGE.getWidth();
-        this.HEIGHT = PLATFORM_IMAGE.getHeight();
-    }
-
-    /**
-     * Draws the platform on the screen.
-     */
-    public void draw() {
-        PLATFORM_IMAGE.draw(X, Y);
-//        drawBoundingBox(); // Uncomment for debugging
+        this.WIDTH = Sprites.getWidth(PLATFORM_IMAGE);
+        this.HEIGHT = Sprites.getHeight(PLATFORM_IMAGE);
+        this.BOUNDS = new BoundingBox(X - (WIDTH / 2), Y - (HEIGHT / 2), WIDTH, HEIGHT);
     }
 
     /**
@@ -76,14 +64,9 @@ public class Platform {
      * Returns a center-based bounding box that aligns with how the platform is drawn.
      * This bounding box is used for collision detection.
      *
-     * @return A {@link Rectangle} representing the platform's bounding box.
+     * @return A {@link BoundingBox} representing the platform's bounding box.
      */
-    public Rectangle getBoundingBox() {
-        return new Rectangle(
-                X - (WIDTH / 2),
-                Y - (HEIGHT / 2),
-                WIDTH,
-                HEIGHT
-        );
+    public BoundingBox getBoundingBox() {
+        return BOUNDS;
     }
 }
@@ -0,0 +1,235 @@
+/**
+ * A support index over a level's platforms, built once at load time.
+ * Platforms never move, so they are bucketed into fixed-width x-columns, and each
+ * column keeps its platforms sorted by top edge. Finding the surface below a body
+ * then needs one binary search per column it spans instead of a scan of every platform.
+ */
+public class PlatformIndex {
+    private static final double COLUMN_WIDTH = 64;
+
+    private final Platform[] platforms;
+    private final double minX;
+    private final int columnCount;
+    private final double maxPlatformHeight;
+
+    // Per column: platform indices sorted by top edge, and the matching tops
+    private final int[][] columnPlatforms;
+    private final double[][] columnTops;
+
+    // Results of the last query, as platform indices in array order
+    private final int[] hits;
+    private int hitCount = 0;
+
+    // Marks platforms already reported by the current query, since one platform spans many columns
+    private final int[] queryStamp;
+    private int currentStamp = 0;
+
+    /**
+     * Builds the index for a level's platforms.
+     *
+     * @param platforms The level's platforms; null entries are ignored
+     */
+    public PlatformIndex(Platform[] platforms) {
+        this.platforms = platforms;
+        this.hits = new int[platforms.length];
+        this.queryStamp = new int[platforms.length];
+
+        double left = Double.POSITIVE_INFINITY;
+        double right = Double.NEGATIVE_INFINITY;
+        double tallest = 0;
+        for (Platform platform : platforms) {
+            if (platform == null) continue;
+            left = Math.min(left, platform.getBoundingBox().left());
+            right = Math.max(right, platform.getBoundingBox().right());
+            tallest = Math.max(tallest, platform.getHeight());
+        }
+        if (left > right) {
+            left = 0;
+            right = 0;
+        }
+        this.minX = left;
+        this.maxPlatformHeight = tallest;
+        this.columnCount = Math.max(1, (int) Math.ceil((right - left) / COLUMN_WIDTH));
+        this.columnPlatforms = new int[columnCount][];
+        this.columnTops = new double[columnCount][];
+        buildColumns();
+    }
+
+    /**
+     * Buckets every platform into the columns it spans, sorted by top edge
+     * (ties keep array order).
+     */
+    private void buildColumns() {
+        int[] counts = new int[columnCount];
+        for (Platform platform : platforms) {
+            if (platform == null) continue;
+            for (int c = firstColumn(platform); c <= lastColumn(platform); c++) {
+                counts[c]++;
+            }
+        }
+
+        for (int c = 0; c < columnCount; c++) {
+            columnPlatforms[c] = new int[counts[c]];
+            columnTops[c] = new double[counts[c]];
+            counts[c] = 0;
+        }
+
+        for (int i = 0; i < platforms.length; i++) {
+            Platform platform = platforms[i];
+            if (platform == null) continue;
+            double top = platform.getBoundingBox().top();
+            for (int c = firstColumn(platform); c <= lastColumn(platform); c++) {
+                // Insertion sort by top edge
+                int[] indices = columnPlatforms[c];
+                double[] tops = columnTops[c];
+                int j = counts[c]++;
+                while (j > 0 && tops[j - 1] > top) {
+                    indices[j] = indices[j - 1];
+                    tops[j] = tops[j - 1];
+                    j--;
+                }
+                indices[j] = i;
+                tops[j] = top;
+            }
+        }
+    }
+
+    /**
+     * Finds every platform whose box touches the given area, edges included.
+     * Results are reported in the same order as the platform array, so callers that
+     * stop at the first match behave exactly like a scan of the array.
+     * Results stay valid until the next query.
+     *
+     * @return The number of platforms found, read with {@link #getHit(int)}
+     */
+    public int query(double left, double top, double right, double bottom) {
+        hitCount = 0;
+        currentStamp++;
+
+        int first = columnOf(left);
+        int last = columnOf(right);
+        for (int c = first; c <= last; c++) {
+            int[] indices = columnPlatforms[c];
+            double[] tops = columnTops[c];
+
+            // A platform can only reach the area if its top is within one platform height above it
+            for (int k = lowerBound(tops, top - maxPlatformHeight); k < tops.length && tops[k] <= bottom; k++) {
+                int index = indices[k];
+                if (queryStamp[index] == currentStamp) continue;
+                queryStamp[index] = currentStamp;
+
+                BoundingBox bounds = platforms[index].getBoundingBox();
+                if (bounds.left() <= right && bounds.right() >= left
+                        && bounds.top() <= bottom && bounds.bottom() >= top) {
+                    addHit(index);
+                }
+            }
+        }
+        return hitCount;
+    }
+
+    /**
+     * Finds every platform whose box touches the given box, edges included.
+     *
+     * @param box The area to search
+     * @return The number of platforms found, read with {@link #getHit(int)}
+     */
+    public int query(BoundingBox box) {
+        return query(box.left(), box.top(), box.right(), box.bottom());
+    }
+
+    /**
+     * Gets a platform from the last query.
+     *
+     * @param index The position of the result, from 0 to the query's count
+     * @return The platform
+     */
+    public Platform getHit(int index) {
+        return platforms[hits[index]];
+    }
+
+    /**
+     * Gets the position in the platform array of a platform from the last query.
+     *
+     * @param index The position of the result, from 0 to the query's count
+     * @return The platform's index in the array the index was built from
+     */
+    public int getHitIndex(int index) {
+        return hits[index];
+    }
+
+    /**
+     * Finds the first platform top at or below a point, among platforms spanning its x-coordinate.
+     *
+     * @param x The x-coordinate to look below
+     * @param y The y-coordinate to start looking from
+     * @return The platform with the highest top edge at or below y, or null if there is none
+     */
+    public Platform firstTopBelow(double x, double y) {
+        if (x < minX || x > minX + columnCount * COLUMN_WIDTH) {
+            return null;
+        }
+        int c = columnOf(x);
+        int[] indices = columnPlatforms[c];
+        double[] tops = columnTops[c];
+        for (int k = lowerBound(tops, y); k < tops.length; k++) {
+            BoundingBox bounds = platforms[indices[k]].getBoundingBox();
+            if (bounds.left() <= x && bounds.right() >= x) {
+                return platforms[indices[k]];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets the indexed platforms.
+     *
+     * @return The platform array the index was built from
+     */
+    public Platform[] getPlatforms() {
+        return platforms;
+    }
+
+    /**
+     * Adds a platform index to the hit list, keeping it in array order.
+     */
+    private void addHit(int index) {
+        int i = hitCount++;
+        while (i > 0 && hits[i - 1] > index) {
+            hits[i] = hits[i - 1];
+            i--;
+        }
+        hits[i] = index;
+    }
+
+    /**
+     * Finds the first position in a sorted array whose value is at least the key.
+     */
+    private static int lowerBound(double[] values, double key) {
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int firstColumn(Platform platform) {
+        return columnOf(platform.getBoundingBox().left());
+    }
+
+    private int lastColumn(Platform platform) {
+        return columnOf(platform.getBoundingBox().right());
+    }
+
+    private int columnOf(double x) {
+        int column = (int) Math.floor((x - minX) / COLUMN_WIDTH);
+        return column < 0 ? 0 : (column >= columnCount ? columnCount - 1 : column);
+    }
+
+}
@@ -0,0 +1,41 @@
+/**
+ * Bit flags describing the player's input for a single simulation tick.
+ * The rendering layer translates keyboard state into this mask so the core
+ * can be stepped without a window.
+ */
+public final class PlayerInput {
+    /** Left arrow is held down. */
+    public static final int LEFT = 1;
+
+    /** Right arrow is held down. */
+    public static final int RIGHT = 1 << 1;
+
+    /** Up arrow is held down. */
+    public static final int UP = 1 << 2;
+
+    /** Down arrow is held down. */
+    public static final int DOWN = 1 << 3;
+
+    /** Space (jump) was pressed this tick. */
+    public static final int JUMP = 1 << 4;
+
+    /** S (shoot) was pressed this tick. */
+    public static final int SHOOT = 1 << 5;
+
+    /** No keys held or pressed. */
+    public static final int NONE = 0;
+
+    private PlayerInput() {
+    }
+
+    /**
+     * Checks if a key bit is set in an input mask.
+     *
+     * @param input The input mask for the tick
+     * @param key   One of the key constants in this class
+     * @return true if the key is set, false otherwise
+     */
+    public static boolean isSet(int input, int key) {
+        return (input & key) != 0;
+    }
+}
@@ -0,0 +1,366 @@
+import java.nio.ByteBuffer;
+
+/**
+ * Stores every live bullet and banana in parallel primitive arrays and moves them together.
+ * Projectiles travel horizontally at a fixed speed for their kind and expire after a fixed
+ * distance or when they leave the play area. Live projectiles are kept packed at the front
+ * of the arrays in the order they were fired, and expired ones are removed in one pass at
+ * the end of each update, so firing and expiring projectiles does not allocate.
+ * <p>
+ * Each update also keeps a second ordering of the live projectiles, sorted by the left edge of
+ * the area each covered during its move, for sweep-and-prune collision checks. Projectiles only
+ * move a few pixels a tick, so last tick's order is almost sorted and an insertion sort
+ * restores it in close to linear time.
+ */
+public class ProjectileSystem implements Snapshottable {
+    /**
+     * A bullet fired by Mario while holding a blaster.
+     */
+    public static final int BULLET = 0;
+
+    /**
+     * A banana thrown by an intelligent monkey.
+     */
+    public static final int BANANA = 1;
+
+    private static final int KIND_COUNT = 2;
+
+    // Per-kind movement constants, indexed by kind
+    private static final double[] SPEED = {
+            3.8, // Bullet: pixels per tick
+            1.8  // Banana: pixels per tick
+    };
+    private static final double[] MAX_DISTANCE = {
+            300.0, // Bullet
+            300.0  // Banana
+    };
+
+    // Per-kind sprites, indexed by kind; bullets have different images for each direction
+    private static final String[] RIGHT_IMAGE = {"res/bullet_right.png", "res/banana.png"};
+    private static final String[] LEFT_IMAGE = {"res/bullet_left.png", "res/banana.png"};
+
+    // Per-kind half-extents, read from the sprites
+    private final double[] halfWidth = new double[KIND_COUNT];
+    private final double[] halfHeight = new double[KIND_COUNT];
+
+    private final double screenWidth;
+    private final double screenHeight;
+
+    // Projectile state, one entry per slot in [0, count)
+    private final double[] x;
+    private final double[] y;
+    private final double[] velocityX;
+    private final double[] distanceTravelled;
+    private final byte[] kind;
+    private final boolean[] alive;
+    private int count = 0;
+
+    // Live slots sorted by left edge as of the last update, and where each slot moved when packing
+    private final int[] byLeft;
+    private final int[] packedSlot;
+    private int sortedCount = 0;
+
+    // Per-kind caps and usage counters
+    private final int[] capacity = new int[KIND_COUNT];
+    private final int[] liveCount = new int[KIND_COUNT];
+    private final int[] peakLiveCount = new int[KIND_COUNT];
+    private final long[] firedCount = new long[KIND_COUNT];
+    private final long[] rejectedCount = new long[KIND_COUNT];
+
+    /**
+     * Creates an empty projectile system.
+     *
+     * @param maxBullets   The most bullets that can be live at once
+     * @param maxBananas   The most bananas that can be live at once
+     * @param screenWidth  The width of the play area
+     * @param screenHeight The height of the play area
+     */
+    public ProjectileSystem(int maxBullets, int maxBananas, double screenWidth, double screenHeight) {
+        this.screenWidth = screenWidth;
+        this.screenHeight = screenHeight;
+        capacity[BULLET] = maxBullets;
+        capacity[BANANA] = maxBananas;
+
+        for (int k = 0; k < KIND_COUNT; k++) {
+            halfWidth[k] = Sprites.getWidth(RIGHT_IMAGE[k]) / 2;
+            halfHeight[k] = Sprites.getHeight(RIGHT_IMAGE[k]) / 2;
+        }
+
+        int slots = maxBullets + maxBananas;
+        this.x = new double[slots];
+        this.y = new double[slots];
+        this.velocityX = new double[slots];
+        this.distanceTravelled = new double[slots];
+        this.kind = new byte[slots];
+        this.alive = new boolean[slots];
+        this.byLeft = new int[slots];
+        this.packedSlot = new int[slots];
+    }
+
+    /**
+     * Fires a new projectile.
+     *
+     * @param projectileKind {@link #BULLET} or {@link #BANANA}
+     * @param startX         The initial x-coordinate
+     * @param startY         The initial y-coordinate
+     * @param isFacingRight  Whether the character that fired the projectile is facing right
+     * @return true if the projectile was fired, false if its kind is already at capacity
+     */
+    public boolean fire(int projectileKind, double startX, double startY, boolean isFacingRight) {
+        if (liveCount[projectileKind] == capacity[projectileKind]) {
+            rejectedCount[projectileKind]++;
+            return false;
+        }
+
+        int slot = count++;
+        x[slot] = startX;
+        y[slot] = startY;
+        velocityX[slot] = isFacingRight ? SPEED[projectileKind] : -SPEED[projectileKind];
+        distanceTravelled[slot] = 0;
+        kind[slot] = (byte) projectileKind;
+        alive[slot] = true;
+
+        liveCount[projectileKind]++;
+        firedCount[projectileKind]++;
+        peakLiveCount[projectileKind] = Math.max(peakLiveCount[projectileKind], liveCount[projectileKind]);
+        return true;
+    }
+
+    /**
+     * Moves every projectile once, then removes the ones that expired this tick
+     * or were destroyed since the last update.
+     */
+    public void update() {
+        // 1) Move every live projectile and expire the ones that went too far
+        for (int i = 0; i < count; i++) {
+            if (!alive[i]) continue;
+
+            x[i] += velocityX[i];
+            distanceTravelled[i] += Math.abs(velocityX[i]);
+
+            if (distanceTravelled[i] >= MAX_DISTANCE[kind[i]]
+                    || x[i] < 0 || x[i] > screenWidth || y[i] < 0 || y[i] > screenHeight) {
+                alive[i] = false;
+            }
+        }
+
+        // 2) Pack the survivors at the front, keeping them in firing order
+        int packed = 0;
+        for (int i = 0; i < count; i++) {
+            if (!alive[i]) {
+                liveCount[kind[i]]--;
+                packedSlot[i] = -1;
+                continue;
+            }
+            packedSlot[i] = packed;
+            if (packed != i) {
+                x[packed] = x[i];
+                y[packed] = y[i];
+                velocityX[packed] = velocityX[i];
+                distanceTravelled[packed] = distanceTravelled[i];
+                kind[packed] = kind[i];
+                alive[packed] = true;
+            }
+            packed++;
+        }
+
+        // 3) Carry last update's order over to the packed slots, then append the projectiles
+        // fired since, which were given the slots after every projectile sorted last time
+        int sorted = 0;
+        for (int k = 0; k < sortedCount; k++) {
+            int slot = packedSlot[byLeft[k]];
+            if (slot >= 0) {
+                byLeft[sorted++] = slot;
+            }
+        }
+        for (int i = sortedCount; i < count; i++) {
+            if (packedSlot[i] >= 0) {
+                byLeft[sorted++] = packedSlot[i];
+            }
+        }
+        count = packed;
+        sortedCount = sorted;
+
+        // 4) Insertion sort by swept left edge, which is close to linear on last tick's order
+        for (int k = 1; k < sortedCount; k++) {
+            int slot = byLeft[k];
+            double left = sweptLeft(slot);
+            int j = k;
+            while (j > 0 && sweptLeft(byLeft[j - 1]) > left) {
+                byLeft[j] = byLeft[j - 1];
+                j--;
+            }
+            byLeft[j] = slot;
+        }
+    }
+
+    /**
+     * Writes every occupied slot, the left-edge order and the per-kind counters.
+     *
+     * @param out The buffer to write to
+     */
+    @Override
+    public void writeState(ByteBuffer out) {
+        out.putInt(count);
+        for (int i = 0; i < count; i++) {
+            out.putDouble(x[i]);
+            out.putDouble(y[i]);
+            out.putDouble(velocityX[i]);
+            out.putDouble(distanceTravelled[i]);
+            out.put((byte) (kind[i] | (alive[i] ? 2 : 0)));
+        }
+        out.putInt(sortedCount);
+        for (int k = 0; k < sortedCount; k++) {
+            out.putInt(byLeft[k]);
+        }
+        for (int k = 0; k < KIND_COUNT; k++) {
+            out.putInt(liveCount[k]);
+            out.putInt(peakLiveCount[k]);
+            out.putLong(firedCount[k]);
+            out.putLong(rejectedCount[k]);
+        }
+    }
+
+    /**
+     * Reads back every occupied slot, the left-edge order and the per-kind counters.
+     *
+     * @param in The buffer to read from
+     */
+    @Override
+    public void readState(ByteBuffer in) {
+        count = in.getInt();
+        for (int i = 0; i < count; i++) {
+            x[i] = in.getDouble();
+            y[i] = in.getDouble();
+            velocityX[i] = in.getDouble();
+            distanceTravelled[i] = in.getDouble();
+            byte flags = in.get();
+            kind[i] = (byte) (flags & 1);
+            alive[i] = (flags & 2) != 0;
+        }
+        sortedCount = in.getInt();
+        for (int k = 0; k < sortedCount; k++) {
+            byLeft[k] = in.getInt();
+        }
+        for (int k = 0; k < KIND_COUNT; k++) {
+            liveCount[k] = in.getInt();
+            peakLiveCount[k] = in.getInt();
+            firedCount[k] = in.getLong();
+            rejectedCount[k] = in.getLong();
+        }
+    }
+
+    /**
+     * Destroys a projectile. It stops colliding and being drawn at once,
+     * and its slot is reclaimed on the next update.
+     *
+     * @param index The slot of the projectile, from 0 to {@link #size()}
+     */
+    public void destroy(int index) {
+        alive[index] = false;
+    }
+
+    /**
+     * Checks if a projectile hit a bounding box during its last move, see {@link #timeOfImpact}.
+     *
+     * @param index The slot of the projectile
+     * @param box   The box to test against
+     * @return true if the projectile is alive and hit the box, false otherwise
+     */
+    public boolean intersects(int index, BoundingBox box) {
+        return timeOfImpact(index, box) >= 0;
+    }
+
+    /**
+     * Finds when a projectile first touched a bounding box during its last move.
+     * The projectile counts as hitting the box if it overlaps the box now, or if it passed
+     * all the way through the box since the last update, which a fast projectile can do
+     * between two ticks. The box is treated as still during the move.
+     *
+     * @param index The slot of the projectile
+     * @param box   The box to test against
+     * @return The fraction of the move at which the projectile reached the box, from 0 to 1,
+     *         or -1 if it is not alive or did not hit the box
+     */
+    public double timeOfImpact(int index, BoundingBox box) {
+        // Projectiles only move along x, so they must line up with the box on y
+        if (!alive[index] || top(index) >= box.bottom() || bottom(index) <= box.top()) {
+            return -1;
+        }
+
+        double move = velocityX[index];
+        double left = left(index);
+        double right = right(index);
+        double entry = move > 0 ? (box.left() - (right - move)) / move : (box.right() - (left - move)) / move;
+
+        if (left < box.right() && right > box.left()) {
+            return Math.max(0, entry);
+        }
+
+        boolean passedThrough = move > 0
+                ? right - move <= box.left() && left >= box.right()
+                : left - move >= box.right() && right <= box.left();
+        return passedThrough ? entry : -1;
+    }
+
+    /**
+     * Gets the number of occupied slots, including projectiles destroyed since the last update.
+     *
+     * @return The number of slots to iterate over
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Gets the number of projectiles in the left-edge order. The order holds every projectile
+     * live at the last update; projectiles fired since then join it on the next update.
+     *
+     * @return The number of positions to iterate over
+     */
+    public int getSortedCount() {
+        return sortedCount;
+    }
+
+    /**
+     * Gets a projectile by its position in the left-edge order.
+     *
+     * @param position The position in the order, from 0 to {@link #getSortedCount()}
+     * @return The slot of the projectile, whose {@link #sweptLeft} is no less than the one before it
+     */
+    public int getSortedSlot(int position) {
+        return byLeft[position];
+    }
+
+    public boolean isAlive(int index) { return alive[index]; }
+    public int getKind(int index) { return kind[index]; }
+    public double getX(int index) { return x[index]; }
+    public double getY(int index) { return y[index]; }
+    public double getVelocityX(int index) { return velocityX[index]; }
+
+    public double left(int index) { return x[index] - halfWidth[kind[index]]; }
+    public double right(int index) { return x[index] + halfWidth[kind[index]]; }
+    public double top(int index) { return y[index] - halfHeight[kind[index]]; }
+    public double bottom(int index) { return y[index] + halfHeight[kind[index]]; }
+
+    // Edges of the area a projectile covered during its last move
+    public double sweptLeft(int index) { return Math.min(left(index), left(index) - velocityX[index]); }
+    public double sweptRight(int index) { return Math.max(right(index), right(index) - velocityX[index]); }
+
+    /**
+     * Gets the path of the sprite a projectile is drawn with.
+     *
+     * @param index The slot of the projectile
+     * @return The sprite path for the projectile's kind and direction
+     */
+    public String getSpritePath(int index) {
+        return velocityX[index] >= 0 ? RIGHT_IMAGE[kind[index]] : LEFT_IMAGE[kind[index]];
+    }
+
+    // Usage counters, per kind
+    public int getCapacity(int projectileKind) { return capacity[projectileKind]; }
+    public int getLiveCount(int projectileKind) { return liveCount[projectileKind]; }
+    public int getPeakLiveCount(int projectileKind) { return peakLiveCount[projectileKind]; }
+    public long getFiredCount(int projectileKind) { return firedCount[projectileKind]; }
+    public long getRejectedCount(int projectileKind) { return rejectedCount[projectileKind]; }
+}
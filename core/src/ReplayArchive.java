@@ -0,0 +1,295 @@
+import java.io.*;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Properties;
+
+/**
+ * A recorded session on disk that can be opened at any tick without simulating from the start.
+ * The file holds, in order:
+ * <ol>
+ *     <li>a header with the level, configuration hash, seed, keyframe interval, tick count and final score,</li>
+ *     <li>the input stream as runs of equal {@link PlayerInput} masks, as in {@link InputRecording},</li>
+ *     <li>a {@link GameWorld#snapshot} keyframe every {@code keyframeInterval} ticks, starting at tick 0,</li>
+ *     <li>a footer index with, per keyframe, its file offset, size and the run its first input falls in,</li>
+ *     <li>the index offset and a closing magic number as the last twelve bytes.</li>
+ * </ol>
+ * The reader maps the file into memory, so finding a keyframe is an index lookup whatever the archive's
+ * length, and {@link #seek} simulates at most {@code keyframeInterval - 1} ticks past it.
+ */
+public class ReplayArchive {
+    /**
+     * Ten seconds of play between keyframes.
+     */
+    public static final int DEFAULT_KEYFRAME_INTERVAL = 10 * GameWorld.TICKS_PER_SECOND;
+
+    // Marks the start and end of an archive, changed whenever the file layout changes
+    private static final int FILE_MAGIC = 0x444B4102;
+    private static final int FOOTER_MAGIC = 0x444B4146;
+
+    private static final int HEADER_BYTES = 4 + 1 + 8 + 8 + 4 + 4 + 4 + 4;
+    private static final int RUN_BYTES = 1 + 4;
+    private static final int INDEX_ENTRY_BYTES = 8 + 4 + 4 + 4;
+    private static final int TRAILER_BYTES = 8 + 4;
+
+    private final MappedByteBuffer map;
+    private final int levelNumber;
+    private final long configHash;
+    private final long seed;
+    private final int keyframeInterval;
+    private final int tickCount;
+    private final int finalScore;
+    private final int runCount;
+    private final int keyframeCount;
+    private final int indexOffset;
+
+    private ReplayArchive(MappedByteBuffer map) throws IOException {
+        this.map = map;
+        if (map.capacity() < HEADER_BYTES + TRAILER_BYTES || map.getInt(0) != FILE_MAGIC
+                || map.getInt(map.capacity() - 4) != FOOTER_MAGIC) {
+            throw new IOException("Not a replay archive, or written by another version");
+        }
+        this.levelNumber = map.get(4);
+        this.configHash = map.getLong(5);
+        this.seed = map.getLong(13);
+        this.keyframeInterval = map.getInt(21);
+        this.tickCount = map.getInt(25);
+        this.finalScore = map.getInt(29);
+        this.runCount = map.getInt(33);
+        this.indexOffset = (int) map.getLong(map.capacity() - TRAILER_BYTES);
+        this.keyframeCount = map.getInt(indexOffset);
+    }
+
+    /**
+     * Maps an archive file into memory for reading.
+     *
+     * @param file The archive to open
+     * @return The open archive
+     * @throws IOException if the file cannot be read, is larger than 2 GB or is not an archive
+     */
+    public static ReplayArchive open(File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Archive is larger than 2 GB: " + file);
+            }
+            // The mapping stays valid after the channel is closed
+            return new ReplayArchive(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Replays a recording in a new world and writes it as an archive with a keyframe every
+     * {@code keyframeInterval} ticks.
+     *
+     * @param recording The recording to archive
+     * @param gameProps The configuration the recording was made with
+     * @param file The archive to write
+     * @param keyframeInterval The number of ticks between keyframes
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(InputRecording recording, Properties gameProps, File file, int keyframeInterval)
+            throws IOException {
+        if (keyframeInterval <= 0) {
+            throw new IllegalArgumentException("Keyframe interval must be positive");
+        }
+        GameWorld world = new GameWorld(gameProps, recording.getLevelNumber(), recording.getSeed());
+        WorldSnapshot snapshot = new WorldSnapshot();
+        int keyframeCount = recording.getTickCount() / keyframeInterval + 1;
+        long[] offsets = new long[keyframeCount];
+        int[] sizes = new int[keyframeCount];
+        int[] runs = new int[keyframeCount];
+        int[] runTicks = new int[keyframeCount];
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            // 1) Header and input stream
+            out.writeInt(FILE_MAGIC);
+            out.writeByte(recording.getLevelNumber());
+            out.writeLong(recording.getConfigHash());
+            out.writeLong(recording.getSeed());
+            out.writeInt(keyframeInterval);
+            out.writeInt(recording.getTickCount());
+            out.writeInt(recording.getFinalScore());
+            out.writeInt(recording.getRunCount());
+            for (int run = 0; run < recording.getRunCount(); run++) {
+                out.writeByte(recording.getRunInput(run));
+                out.writeInt(recording.getRunLength(run));
+            }
+
+            // 2) Keyframes, captured before the input of every keyframeInterval-th tick is applied
+            int tick = 0;
+            int keyframe = 0;
+            for (int run = 0; run < recording.getRunCount(); run++) {
+                for (int i = 0; i < recording.getRunLength(run); i++, tick++) {
+                    if (tick % keyframeInterval == 0) {
+                        writeKeyframe(out, world, snapshot, keyframe, offsets, sizes);
+                        runs[keyframe] = run;
+                        runTicks[keyframe] = i;
+                        keyframe++;
+                    }
+                    world.step(recording.getRunInput(run));
+                }
+            }
+            if (keyframe < keyframeCount) {
+                writeKeyframe(out, world, snapshot, keyframe, offsets, sizes);
+                runs[keyframe] = recording.getRunCount();
+                runTicks[keyframe] = 0;
+            }
+
+            // 3) Footer index and trailer
+            long indexOffset = out.size();
+            out.writeInt(keyframeCount);
+            for (int k = 0; k < keyframeCount; k++) {
+                out.writeLong(offsets[k]);
+                out.writeInt(sizes[k]);
+                out.writeInt(runs[k]);
+                out.writeInt(runTicks[k]);
+            }
+            out.writeLong(indexOffset);
+            out.writeInt(FOOTER_MAGIC);
+        }
+    }
+
+    /**
+     * Captures the world and appends it to the archive, noting where it starts.
+     */
+    private static void writeKeyframe(DataOutputStream out, GameWorld world, WorldSnapshot snapshot,
+                                      int keyframe, long[] offsets, int[] sizes) throws IOException {
+        sizes[keyframe] = snapshot.capture(world);
+        offsets[keyframe] = out.size();
+        byte[] bytes = new byte[sizes[keyframe]];
+        snapshot.getBytes().get(bytes);
+        out.write(bytes);
+    }
+
+    /**
+     * Puts a world into its state after a number of ticks: restores the last keyframe at or
+     * before that tick, then steps the recorded inputs up to it. Nothing is allocated, but the
+     * mapped buffer is repositioned, so an archive must not be read from two threads at once.
+     *
+     * @param world A world built for this archive's level, configuration and seed
+     * @param tick The number of ticks played to seek to, from 0 to {@link #getTickCount()}
+     */
+    public void seek(GameWorld world, int tick) {
+        if (tick < 0 || tick > tickCount) {
+            throw new IllegalArgumentException("Tick " + tick + " is outside 0 to " + tickCount);
+        }
+        if (world.getSeed() != seed) {
+            throw new IllegalArgumentException("Archive was made with seed " + seed + ", not seed " + world.getSeed());
+        }
+
+        // 1) Restore the keyframe straight from the mapped file
+        int keyframe = tick / keyframeInterval;
+        int entry = indexOffset + 4 + keyframe * INDEX_ENTRY_BYTES;
+        int offset = (int) map.getLong(entry);
+        int size = map.getInt(entry + 8);
+        map.limit(offset + size).position(offset);
+        world.restore(map);
+        map.clear();
+
+        // 2) Step the inputs from the keyframe's place in the input stream
+        int run = map.getInt(entry + 12);
+        int runTick = map.getInt(entry + 16);
+        int remaining = tick - keyframe * keyframeInterval;
+        while (remaining > 0) {
+            int runOffset = HEADER_BYTES + run * RUN_BYTES;
+            int input = map.get(runOffset);
+            int steps = Math.min(remaining, map.getInt(runOffset + 1) - runTick);
+            for (int i = 0; i < steps; i++) {
+                world.step(input);
+            }
+            remaining -= steps;
+            run++;
+            runTick = 0;
+        }
+    }
+
+    /**
+     * Reads the archive's input stream back into a recording.
+     *
+     * @return A recording of every tick in the archive
+     */
+    public InputRecording toRecording() {
+        InputRecording recording = new InputRecording(levelNumber, configHash, seed);
+        for (int run = 0; run < runCount; run++) {
+            int runOffset = HEADER_BYTES + run * RUN_BYTES;
+            int input = map.get(runOffset);
+            for (int i = map.getInt(runOffset + 1); i > 0; i--) {
+                recording.record(input);
+            }
+        }
+        recording.setFinalScore(finalScore);
+        return recording;
+    }
+
+    /**
+     * Gets the level the session was played on.
+     *
+     * @return The level number (1 or 2)
+     */
+    public int getLevelNumber() {
+        return levelNumber;
+    }
+
+    /**
+     * Gets the hash of the configuration the session was played with.
+     *
+     * @return The configuration hash, see {@link InputRecording#configHash(Properties)}
+     */
+    public long getConfigHash() {
+        return configHash;
+    }
+
+    /**
+     * Gets the seed of the world the session was played in.
+     *
+     * @return The seed, to create worlds for seeking with
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the number of ticks between keyframes, which bounds the ticks a seek simulates.
+     *
+     * @return The keyframe interval
+     */
+    public int getKeyframeInterval() {
+        return keyframeInterval;
+    }
+
+    /**
+     * Gets the number of keyframes in the archive.
+     *
+     * @return The keyframe count
+     */
+    public int getKeyframeCount() {
+        return keyframeCount;
+    }
+
+    /**
+     * Gets the number of ticks recorded.
+     *
+     * @return The tick count
+     */
+    public int getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * Gets the score at the last recorded tick.
+     *
+     * @return The final score, or {@link InputRecording#NO_SCORE} if none was stored
+     */
+    public int getFinalScore() {
+        return finalScore;
+    }
+
+    /**
+     * Gets the size of the archive file.
+     *
+     * @return The size in bytes
+     */
+    public int getByteSize() {
+        return map.capacity();
+    }
+}
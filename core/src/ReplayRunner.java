@@ -0,0 +1,81 @@
+import java.io.File;
+import java.io.IOException;
+import java.util.Properties;
+
+/**
+ * Replays a recorded session without a window or frame cap, for reproducing bug reports
+ * and checking disputed scores. Usage: {@code ReplayRunner <recording> [repeats]}, run from the
+ * project root so {@code res/} resolves. The recording must have been made with the same
+ * {@code res/app.properties}; the replay is refused otherwise. Every world is created with the
+ * recording's seed, whatever {@code gamePlay.seed} is now. The replay is also stepped in two
+ * worlds side by side to check that they agree on every tick's {@link GameWorld#stateHash()}.
+ */
+public class ReplayRunner {
+    private static final int DEFAULT_REPEATS = 5;
+
+    /**
+     * Replays the recording into a new world several times and prints the outcome
+     * and the fastest replay time.
+     *
+     * @param args The recording file, and optionally the number of times to replay it
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: ReplayRunner <recording> [repeats]");
+            System.exit(-1);
+        }
+        InputRecording recording = InputRecording.load(new File(args[0]));
+        int repeats = args.length > 1 ? Math.max(1, Integer.parseInt(args[1])) : DEFAULT_REPEATS;
+        Properties gameProps = IOUtils.readPropertiesFile("res/app.properties");
+
+        // 1) A different configuration would replay a different game
+        long configHash = InputRecording.configHash(gameProps);
+        if (configHash != recording.getConfigHash()) {
+            System.err.printf("Recording was made with configuration %016x, this is %016x%n",
+                    recording.getConfigHash(), configHash);
+            System.exit(-1);
+        }
+        long seed = recording.getSeed();
+
+        // 2) Replay into a fresh world each time, keeping the fastest run
+        GameWorld world = null;
+        int ticks = 0;
+        long bestNanos = Long.MAX_VALUE;
+        for (int i = 0; i < repeats; i++) {
+            world = new GameWorld(gameProps, recording.getLevelNumber(), seed);
+            long start = System.nanoTime();
+            ticks = recording.replay(world);
+            bestNanos = Math.min(bestNanos, System.nanoTime() - start);
+        }
+
+        // 3) Report the outcome and compare it with the recorded score
+        String outcome = world.isLevelCompleted() ? "level completed"
+                : world.isGameOver() ? "game over" : "still running";
+        System.out.printf("Level %d, seed %d: %d of %d ticks replayed in %.3f ms, %s, score %d, %d seconds left%n",
+                recording.getLevelNumber(), seed, ticks, recording.getTickCount(), bestNanos / 1e6,
+                outcome, world.getScore(), world.getSecondsLeft());
+        if (recording.getFinalScore() != InputRecording.NO_SCORE) {
+            System.out.println(recording.getFinalScore() == world.getScore()
+                    ? "Score matches the recording"
+                    : "Score differs from the recorded " + recording.getFinalScore());
+        }
+
+        // 4) Two worlds stepped side by side must agree on every tick's state hash
+        GameWorld first = new GameWorld(gameProps, recording.getLevelNumber(), seed);
+        GameWorld second = new GameWorld(gameProps, recording.getLevelNumber(), seed);
+        int tick = 0;
+        boolean isGameEnded = false;
+        for (int run = 0; run < recording.getRunCount() && !isGameEnded; run++) {
+            for (int i = 0; i < recording.getRunLength(run) && !isGameEnded; i++) {
+                tick++;
+                isGameEnded = first.step(recording.getRunInput(run));
+                second.step(recording.getRunInput(run));
+                if (first.stateHash() != second.stateHash()) {
+                    System.out.println("State hashes differ at tick " + tick);
+                    System.exit(-1);
+                }
+            }
+        }
+        System.out.printf("State hashes match on all %d ticks, final hash %016x%n", tick, first.stateHash());
+    }
+}
@@ -0,0 +1,116 @@
+import java.nio.ByteBuffer;
+
+/**
+ * The seeded random number generator owned by a {@link GameWorld}, so that the same seed and inputs
+ * always play out the same way. Uses the SplitMix64 algorithm of {@link java.util.SplittableRandom},
+ * which cannot be used directly because its state cannot be read back for a snapshot.
+ * {@link #split()} gives an independent generator, e.g. one per entity, whose numbers do not
+ * depend on how many numbers other entities have drawn.
+ */
+public class SimulationRandom implements Snapshottable {
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    private static final double DOUBLE_UNIT = 0x1.0p-53;
+
+    private long seed;
+    private long gamma;
+
+    /**
+     * Creates a generator from a seed.
+     *
+     * @param seed The seed; equal seeds give equal sequences
+     */
+    public SimulationRandom(long seed) {
+        this(seed, GOLDEN_GAMMA);
+    }
+
+    private SimulationRandom(long seed, long gamma) {
+        this.seed = seed;
+        this.gamma = gamma;
+    }
+
+    /**
+     * Creates a new generator from this one's next numbers, advancing this one.
+     *
+     * @return An independent generator
+     */
+    public SimulationRandom split() {
+        return new SimulationRandom(nextLong(), mixGamma(nextSeed()));
+    }
+
+    /**
+     * Draws a uniformly distributed long.
+     *
+     * @return The next number
+     */
+    public long nextLong() {
+        return mix64(nextSeed());
+    }
+
+    /**
+     * Draws a uniformly distributed int in [0, bound).
+     *
+     * @param bound The exclusive upper bound, which must be positive
+     * @return The next number
+     */
+    public int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("Bound must be positive");
+        }
+        int r = mix32(nextSeed());
+        int m = bound - 1;
+        if ((bound & m) == 0) {
+            return r & m;
+        }
+        // Reject the top values that would make lower results more likely
+        for (int u = r >>> 1; u + m - (r = u % bound) < 0; u = mix32(nextSeed()) >>> 1) {
+        }
+        return r;
+    }
+
+    /**
+     * Draws a uniformly distributed double in [0, 1).
+     *
+     * @return The next number
+     */
+    public double nextDouble() {
+        return (nextLong() >>> 11) * DOUBLE_UNIT;
+    }
+
+    @Override
+    public void writeState(ByteBuffer out) {
+        out.putLong(seed);
+        out.putLong(gamma);
+    }
+
+    @Override
+    public void readState(ByteBuffer in) {
+        seed = in.getLong();
+        gamma = in.getLong();
+    }
+
+    private long nextSeed() {
+        return seed += gamma;
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private static int mix32(long z) {
+        z = (z ^ (z >>> 33)) * 0x62a9d9ed799705f5L;
+        return (int) (((z ^ (z >>> 28)) * 0xcb24d0a5c88c35b3L) >>> 32);
+    }
+
+    /**
+     * Derives an odd gamma with enough bit transitions to give a good sequence.
+     */
+    private static long mixGamma(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        z = (z ^ (z >>> 33)) | 1L;
+        int n = Long.bitCount(z ^ (z >>> 1));
+        return (n < 24) ? z ^ 0xaaaaaaaaaaaaaaaaL : z;
+    }
+}
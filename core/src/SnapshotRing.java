@@ -0,0 +1,140 @@
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * The most recent world snapshots, kept in one buffer allocated up front so that capturing
+ * every tick never allocates. The buffer is split into equal slots, one per snapshot; once
+ * every slot is used, each capture overwrites the oldest snapshot.
+ * Entries are numbered from 0 for the oldest to {@link #size()} - 1 for the newest.
+ */
+public class SnapshotRing {
+    private final ByteBuffer buffer;
+    private final int capacity;
+    private final int slotBytes;
+
+    // Slot of the oldest entry, and how many entries follow it
+    private int first = 0;
+    private int size = 0;
+    private int peakSnapshotBytes = 0;
+
+    /**
+     * Creates an empty ring, allocating all its memory at once.
+     *
+     * @param capacity The number of snapshots kept
+     * @param slotBytes The most bytes one snapshot may take
+     */
+    public SnapshotRing(int capacity, int slotBytes) {
+        if (capacity <= 0 || slotBytes <= 0) {
+            throw new IllegalArgumentException("Ring capacity and slot size must be positive");
+        }
+        if ((long) capacity * slotBytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Ring of " + capacity + " slots of " + slotBytes
+                    + " bytes is larger than 2 GB");
+        }
+        this.capacity = capacity;
+        this.slotBytes = slotBytes;
+        this.buffer = ByteBuffer.allocate(capacity * slotBytes);
+    }
+
+    /**
+     * Captures a world's state as the newest entry, dropping the oldest if the ring is full.
+     *
+     * @param world The world to capture
+     * @throws IllegalStateException if the snapshot does not fit in a slot
+     */
+    public void capture(GameWorld world) {
+        int slot = (first + size) % capacity;
+
+        // 1) Write the snapshot into its slot only
+        buffer.limit((slot + 1) * slotBytes).position(slot * slotBytes);
+        try {
+            peakSnapshotBytes = Math.max(peakSnapshotBytes, world.snapshot(buffer));
+        } catch (BufferOverflowException e) {
+            // A full ring has just overwritten part of its oldest entry
+            if (size == capacity) {
+                first = (first + 1) % capacity;
+                size--;
+            }
+            throw new IllegalStateException("World snapshot does not fit in a " + slotBytes + " byte slot");
+        }
+
+        // 2) The new entry replaces the oldest once every slot is used
+        if (size == capacity) {
+            first = (first + 1) % capacity;
+        } else {
+            size++;
+        }
+    }
+
+    /**
+     * Puts a world back into the state of an entry. The world must be of the captured level.
+     *
+     * @param index The entry, from 0 for the oldest to {@link #size()} - 1 for the newest
+     * @param world The world to restore
+     */
+    public void restore(int index, GameWorld world) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Entry " + index + " of " + size);
+        }
+        int slot = (first + index) % capacity;
+        buffer.limit((slot + 1) * slotBytes).position(slot * slotBytes);
+        world.restore(buffer);
+    }
+
+    /**
+     * Drops every entry newer than the given number of entries, e.g. when play resumes from an older state.
+     *
+     * @param size The number of entries to keep, from the oldest
+     */
+    public void truncate(int size) {
+        if (size < 0 || size > this.size) {
+            throw new IndexOutOfBoundsException("Cannot keep " + size + " of " + this.size + " entries");
+        }
+        this.size = size;
+    }
+
+    /**
+     * Gets the number of entries held.
+     *
+     * @return The entry count, at most {@link #getCapacity()}
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the number of snapshots the ring keeps.
+     *
+     * @return The capacity
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Gets the most bytes one snapshot may take.
+     *
+     * @return The slot size in bytes
+     */
+    public int getSlotBytes() {
+        return slotBytes;
+    }
+
+    /**
+     * Gets the memory the ring holds, which does not change after it is created.
+     *
+     * @return The buffer size in bytes
+     */
+    public int getByteSize() {
+        return buffer.capacity();
+    }
+
+    /**
+     * Gets the largest snapshot captured, to check how close snapshots come to the slot size.
+     *
+     * @return The peak snapshot size in bytes
+     */
+    public int getPeakSnapshotBytes() {
+        return peakSnapshotBytes;
+    }
+}
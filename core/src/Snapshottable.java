@@ -0,0 +1,23 @@
+import java.nio.ByteBuffer;
+
+/**
+ * Part of a level whose changing state can be written into a world snapshot and read back.
+ * Only state that changes during play is written; anything fixed when the level is loaded,
+ * such as sprite sizes or patrol routes, is left out. Reading must consume exactly the bytes
+ * that writing produced, in the same order, and must not allocate.
+ */
+public interface Snapshottable {
+    /**
+     * Writes this object's changing state at the buffer's position.
+     *
+     * @param out The buffer to write to
+     */
+    void writeState(ByteBuffer out);
+
+    /**
+     * Reads back state written by {@link #writeState}, replacing this object's current state.
+     *
+     * @param in The buffer to read from
+     */
+    void readState(ByteBuffer in);
+}
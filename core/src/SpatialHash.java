@@ -0,0 +1,191 @@
+import java.util.Arrays;
+
+/**
+ * A uniform-grid spatial hash used as a collision broadphase.
+ * The grid covers the play area; objects are inserted once per tick into the cell holding
+ * their center, and a query only visits the cells that an overlapping object could occupy.
+ * Storage is reused between ticks, so a steady-state tick does not allocate.
+ *
+ * @param <T> The type of object stored in the grid
+ */
+public class SpatialHash<T> {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int NO_ENTRY = -1;
+
+    private final double cellSize;
+    private final int columns;
+    private final int rows;
+
+    // Per-cell linked lists of entries, threaded through the next array
+    private final int[] cellHead;
+    private int[] next;
+    private Object[] items;
+    private int count = 0;
+
+    // Largest half-extents inserted since the last clear, used to widen queries
+    private double maxHalfWidth = 0;
+    private double maxHalfHeight = 0;
+
+    // Results of the last query, as entry indices in insertion order
+    private int[] hits;
+    private int hitCount = 0;
+
+    /**
+     * Creates a grid covering a play area of the given size.
+     *
+     * @param width    The width of the play area
+     * @param height   The height of the play area
+     * @param cellSize The side length of a grid cell
+     */
+    public SpatialHash(double width, double height, double cellSize) {
+        this.cellSize = cellSize;
+        this.columns = Math.max(1, (int) Math.ceil(width / cellSize));
+        this.rows = Math.max(1, (int) Math.ceil(height / cellSize));
+        this.cellHead = new int[columns * rows];
+        this.next = new int[INITIAL_CAPACITY];
+        this.items = new Object[INITIAL_CAPACITY];
+        this.hits = new int[INITIAL_CAPACITY];
+        clear();
+    }
+
+    /**
+     * Removes every object from the grid.
+     */
+    public void clear() {
+        Arrays.fill(cellHead, NO_ENTRY);
+        Arrays.fill(items, 0, count, null);
+        count = 0;
+        hitCount = 0;
+        maxHalfWidth = 0;
+        maxHalfHeight = 0;
+    }
+
+    /**
+     * Inserts an object into the cell containing the center of its bounding box.
+     *
+     * @param item The object to insert
+     * @param box  The object's current bounding box
+     */
+    public void insert(T item, BoundingBox box) {
+        if (count == items.length) {
+            grow();
+        }
+
+        double halfWidth = (box.right() - box.left()) / 2;
+        double halfHeight = (box.bottom() - box.top()) / 2;
+        maxHalfWidth = Math.max(maxHalfWidth, halfWidth);
+        maxHalfHeight = Math.max(maxHalfHeight, halfHeight);
+
+        int cell = cellIndex(columnOf(box.left() + halfWidth), rowOf(box.top() + halfHeight));
+        items[count] = item;
+        next[count] = cellHead[cell];
+        cellHead[cell] = count;
+        count++;
+    }
+
+    /**
+     * Finds every object whose cell is close enough to the given box that the two could overlap.
+     * This is a broadphase: callers still need an exact test on each result.
+     * Results are reported in insertion order and stay valid until the next query or clear.
+     *
+     * @return The number of candidates found, read with {@link #getHit(int)}
+     */
+    public int query(double left, double top, double right, double bottom) {
+        hitCount = 0;
+        if (count == 0) {
+            return 0;
+        }
+
+        int minColumn = columnOf(left - maxHalfWidth);
+        int maxColumn = columnOf(right + maxHalfWidth);
+        int minRow = rowOf(top - maxHalfHeight);
+        int maxRow = rowOf(bottom + maxHalfHeight);
+
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int column = minColumn; column <= maxColumn; column++) {
+                for (int entry = cellHead[cellIndex(column, row)]; entry != NO_ENTRY; entry = next[entry]) {
+                    addHit(entry);
+                }
+            }
+        }
+        return hitCount;
+    }
+
+    /**
+     * Finds every object that could overlap the given box.
+     *
+     * @param box The box to search around
+     * @return The number of candidates found, read with {@link #getHit(int)}
+     */
+    public int query(BoundingBox box) {
+        return query(box.left(), box.top(), box.right(), box.bottom());
+    }
+
+    /**
+     * Gets a candidate from the last query.
+     *
+     * @param index The position of the candidate, from 0 to the query's count
+     * @return The candidate object
+     */
+    @SuppressWarnings("unchecked")
+    public T getHit(int index) {
+        return (T) items[hits[index]];
+    }
+
+    /**
+     * Gets the insertion position of a candidate from the last query, counting from 0 after the last clear.
+     *
+     * @param index The position of the candidate, from 0 to the query's count
+     * @return The order in which the candidate was inserted
+     */
+    public int getHitIndex(int index) {
+        return hits[index];
+    }
+
+    /**
+     * Gets the number of objects in the grid.
+     *
+     * @return The number of inserted objects
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Adds an entry to the hit list, keeping it sorted by insertion order so results
+     * are visited in the same order as the arrays they were inserted from.
+     */
+    private void addHit(int entry) {
+        if (hitCount == hits.length) {
+            hits = Arrays.copyOf(hits, hits.length * 2);
+        }
+        int i = hitCount++;
+        while (i > 0 && hits[i - 1] > entry) {
+            hits[i] = hits[i - 1];
+            i--;
+        }
+        hits[i] = entry;
+    }
+
+    private void grow() {
+        int capacity = items.length * 2;
+        items = Arrays.copyOf(items, capacity);
+        next = Arrays.copyOf(next, capacity);
+    }
+
+    private int columnOf(double x) {
+        return clamp((int) Math.floor(x / cellSize), columns);
+    }
+
+    private int rowOf(double y) {
+        return clamp((int) Math.floor(y / cellSize), rows);
+    }
+
+    private int cellIndex(int column, int row) {
+        return row * columns + column;
+    }
+
+    private static int clamp(int value, int size) {
+        return value < 0 ? 0 : (value >= size ? size - 1 : value);
+    }
+}
@@ -0,0 +1,118 @@
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+/**
+ * Provides sprite dimensions to the simulation without decoding any images.
+ * The width and height are read once from the image header and cached by file path,
+ * so the core never needs a graphics context to know how big an entity is.
+ * Some assets use a {@code .png} name but hold JPEG data, so the format is detected from the file.
+ * Collision masks are the one case where pixels are decoded, once per sprite the first time its
+ * mask is asked for; they may be asked for while collision tests run in parallel. A JPEG sprite
+ * has no alpha channel to take an outline from, so its mask is the ellipse inscribed in its box,
+ * which fits the one such sprite that is masked, the rolling barrel.
+ */
+public class Sprites {
+    private static final Map<String, double[]> SIZES = new HashMap<>();
+    private static final Map<String, CollisionMask> MASKS = new ConcurrentHashMap<>();
+
+    private Sprites() {
+    }
+
+    /**
+     * Gets the width of a sprite.
+     *
+     * @param path The path of the image file, relative to the working directory
+     * @return The width of the sprite in pixels
+     */
+    public static double getWidth(String path) {
+        return getSize(path)[0];
+    }
+
+    /**
+     * Gets the height of a sprite.
+     *
+     * @param path The path of the image file, relative to the working directory
+     * @return The height of the sprite in pixels
+     */
+    public static double getHeight(String path) {
+        return getSize(path)[1];
+    }
+
+    /**
+     * Gets the collision mask of a sprite, built from its alpha channel (or, for a sprite
+     * without one, its inscribed ellipse) the first time it is needed.
+     *
+     * @param path The path of the image file, relative to the working directory
+     * @return The sprite's collision mask
+     */
+    public static CollisionMask getCollisionMask(String path) {
+        CollisionMask mask = MASKS.get(path);
+        if (mask == null) {
+            mask = readMask(path);
+            CollisionMask existing = MASKS.putIfAbsent(path, mask);
+            if (existing != null) {
+                mask = existing;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Reads (or returns the cached) width and height of an image file.
+     */
+    private static double[] getSize(String path) {
+        double[] size = SIZES.get(path);
+        if (size == null) {
+            size = readSize(path);
+            SIZES.put(path, size);
+        }
+        return size;
+    }
+
+    /**
+     * Reads the width and height from an image file's header without decoding its pixels.
+     */
+    private static double[] readSize(String path) {
+        try (ImageInputStream in = ImageIO.createImageInputStream(new File(path))) {
+            Iterator<ImageReader> readers = in == null ? null : ImageIO.getImageReaders(in);
+            if (readers == null || !readers.hasNext()) {
+                throw new IllegalStateException("Unsupported sprite format: " + path);
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in);
+                return new double[] {reader.getWidth(0), reader.getHeight(0)};
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException ex) {
+            throw new IllegalStateException("Unable to read sprite size: " + path, ex);
+        }
+    }
+
+    /**
+     * Decodes an image file and builds its collision mask.
+     */
+    private static CollisionMask readMask(String path) {
+        try {
+            BufferedImage image = ImageIO.read(new File(path));
+            if (image == null) {
+                throw new IllegalStateException("Unsupported sprite format: " + path);
+            }
+            if (!image.getColorModel().hasAlpha()) {
+                return CollisionMask.inscribedEllipse(image.getWidth(), image.getHeight());
+            }
+            return CollisionMask.fromImage(image);
+        } catch (IOException ex) {
+            throw new IllegalStateException("Unable to read sprite mask: " + path, ex);
+        }
+    }
+}
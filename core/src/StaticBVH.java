@@ -0,0 +1,336 @@
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * A bounding-volume hierarchy over objects that never move, built once at level load.
+ * Objects are added with their bounding boxes, then {@link #build()} sorts them into a binary
+ * tree of boxes by repeatedly splitting along the wider axis at the median center, so a query
+ * only descends into subtrees whose box touches the searched area. Objects that leave the game,
+ * such as collected items, can be removed; subtrees with nothing left in them are skipped.
+ * Queries reuse their storage, so a steady-state tick does not allocate.
+ *
+ * @param <T> The type of object stored in the tree
+ */
+public class StaticBVH<T> implements Snapshottable {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int MAX_LEAF_SIZE = 4;
+    private static final int NO_NODE = -1;
+
+    // Objects in the order they were added, with their boxes copied at add time
+    private Object[] items = new Object[INITIAL_CAPACITY];
+    private double[] itemLeft = new double[INITIAL_CAPACITY];
+    private double[] itemTop = new double[INITIAL_CAPACITY];
+    private double[] itemRight = new double[INITIAL_CAPACITY];
+    private double[] itemBottom = new double[INITIAL_CAPACITY];
+    private boolean[] removed = new boolean[INITIAL_CAPACITY];
+    private int count = 0;
+
+    // Object indices grouped so each leaf owns a contiguous range, and the leaf holding each object
+    private int[] order;
+    private int[] leafOf;
+
+    // Tree nodes: bounds, children (leaves have none), leaf ranges into order, parent and live count
+    private double[] nodeLeft;
+    private double[] nodeTop;
+    private double[] nodeRight;
+    private double[] nodeBottom;
+    private int[] leftChild;
+    private int[] rightChild;
+    private int[] rangeStart;
+    private int[] rangeEnd;
+    private int[] parent;
+    private int[] liveCount;
+    private int nodeCount = 0;
+    private boolean built = false;
+
+    // Scratch space for building and querying
+    private double[] sortKeys;
+    private int[] stack;
+
+    // Results of the last query, as object indices in the order they were added
+    private int[] hits;
+    private int hitCount = 0;
+
+    /**
+     * Adds an object to the tree. Must be called before {@link #build()}.
+     *
+     * @param item The object to add
+     * @param box  The object's bounding box, which is copied
+     * @return The object's index, used to remove it later
+     */
+    public int add(T item, BoundingBox box) {
+        if (built) {
+            throw new IllegalStateException("Cannot add to a tree that has already been built");
+        }
+        if (count == items.length) {
+            grow();
+        }
+
+        int index = count++;
+        items[index] = item;
+        itemLeft[index] = box.left();
+        itemTop[index] = box.top();
+        itemRight[index] = box.right();
+        itemBottom[index] = box.bottom();
+        removed[index] = false;
+        return index;
+    }
+
+    /**
+     * Builds the tree over every object added so far. Can only be called once.
+     */
+    public void build() {
+        if (built) {
+            throw new IllegalStateException("The tree has already been built");
+        }
+        built = true;
+
+        // A binary tree with leaves of at least one object has fewer than twice as many nodes
+        int capacity = Math.max(1, 2 * count);
+        nodeLeft = new double[capacity];
+        nodeTop = new double[capacity];
+        nodeRight = new double[capacity];
+        nodeBottom = new double[capacity];
+        leftChild = new int[capacity];
+        rightChild = new int[capacity];
+        rangeStart = new int[capacity];
+        rangeEnd = new int[capacity];
+        parent = new int[capacity];
+        liveCount = new int[capacity];
+        stack = new int[capacity];
+        hits = new int[Math.max(1, count)];
+
+        order = new int[count];
+        leafOf = new int[count];
+        sortKeys = new double[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = i;
+        }
+        buildNode(0, count, NO_NODE);
+        sortKeys = null;
+    }
+
+    /**
+     * Builds the subtree over order[start, end) and returns its node.
+     */
+    private int buildNode(int start, int end, int parentNode) {
+        int node = nodeCount++;
+        parent[node] = parentNode;
+        rangeStart[node] = start;
+        rangeEnd[node] = end;
+        liveCount[node] = end - start;
+        leftChild[node] = NO_NODE;
+        rightChild[node] = NO_NODE;
+
+        // 1) Fit the node's box around its objects
+        double left = Double.POSITIVE_INFINITY;
+        double top = Double.POSITIVE_INFINITY;
+        double right = Double.NEGATIVE_INFINITY;
+        double bottom = Double.NEGATIVE_INFINITY;
+        for (int k = start; k < end; k++) {
+            int index = order[k];
+            left = Math.min(left, itemLeft[index]);
+            top = Math.min(top, itemTop[index]);
+            right = Math.max(right, itemRight[index]);
+            bottom = Math.max(bottom, itemBottom[index]);
+        }
+        nodeLeft[node] = left;
+        nodeTop[node] = top;
+        nodeRight[node] = right;
+        nodeBottom[node] = bottom;
+
+        // 2) Small groups become leaves
+        if (end - start <= MAX_LEAF_SIZE) {
+            for (int k = start; k < end; k++) {
+                leafOf[order[k]] = node;
+            }
+            return node;
+        }
+
+        // 3) Otherwise split at the median center along the wider axis
+        boolean splitOnX = right - left >= bottom - top;
+        for (int k = start; k < end; k++) {
+            int index = order[k];
+            sortKeys[k] = splitOnX ? itemLeft[index] + itemRight[index] : itemTop[index] + itemBottom[index];
+        }
+        sortRange(start, end);
+
+        int middle = (start + end) >>> 1;
+        leftChild[node] = buildNode(start, middle, node);
+        rightChild[node] = buildNode(middle, end, node);
+        return node;
+    }
+
+    /**
+     * Insertion-sorts order[start, end) by the matching sort keys (ties keep their order).
+     */
+    private void sortRange(int start, int end) {
+        for (int k = start + 1; k < end; k++) {
+            int index = order[k];
+            double key = sortKeys[k];
+            int j = k;
+            while (j > start && sortKeys[j - 1] > key) {
+                order[j] = order[j - 1];
+                sortKeys[j] = sortKeys[j - 1];
+                j--;
+            }
+            order[j] = index;
+            sortKeys[j] = key;
+        }
+    }
+
+    /**
+     * Removes an object from the tree, so later queries no longer report it.
+     *
+     * @param index The object's index, as returned by {@link #add} or {@link #getHitIndex(int)}
+     */
+    public void remove(int index) {
+        if (removed[index]) {
+            return;
+        }
+        removed[index] = true;
+        for (int node = leafOf[index]; node != NO_NODE; node = parent[node]) {
+            liveCount[node]--;
+        }
+    }
+
+    /**
+     * Writes which objects have been removed. The objects and the tree are fixed once built.
+     *
+     * @param out The buffer to write to
+     */
+    @Override
+    public void writeState(ByteBuffer out) {
+        out.putInt(count);
+        for (int i = 0; i < count; i++) {
+            out.put((byte) (removed[i] ? 1 : 0));
+        }
+    }
+
+    /**
+     * Reads back which objects have been removed and recounts the live objects under each node.
+     *
+     * @param in The buffer to read from
+     * @throws IllegalArgumentException if the snapshot has a different number of objects
+     */
+    @Override
+    public void readState(ByteBuffer in) {
+        if (in.getInt() != count) {
+            throw new IllegalArgumentException("Snapshot tree does not match this level");
+        }
+        for (int node = 0; node < nodeCount; node++) {
+            liveCount[node] = rangeEnd[node] - rangeStart[node];
+        }
+        for (int i = 0; i < count; i++) {
+            removed[i] = false;
+            if (in.get() != 0) {
+                remove(i);
+            }
+        }
+    }
+
+    /**
+     * Finds every remaining object whose box touches the given area, edges included.
+     * Results are reported in the order the objects were added, so callers that stop at
+     * the first match behave exactly like a scan of the original array.
+     * Results stay valid until the next query.
+     *
+     * @return The number of objects found, read with {@link #getHit(int)}
+     */
+    public int query(double left, double top, double right, double bottom) {
+        hitCount = 0;
+        if (nodeCount == 0) {
+            return 0;
+        }
+
+        int depth = 0;
+        stack[depth++] = 0;
+        while (depth > 0) {
+            int node = stack[--depth];
+            if (liveCount[node] == 0 || nodeLeft[node] > right || nodeRight[node] < left
+                    || nodeTop[node] > bottom || nodeBottom[node] < top) {
+                continue;
+            }
+
+            if (leftChild[node] != NO_NODE) {
+                stack[depth++] = leftChild[node];
+                stack[depth++] = rightChild[node];
+                continue;
+            }
+
+            for (int k = rangeStart[node]; k < rangeEnd[node]; k++) {
+                int index = order[k];
+                if (!removed[index] && itemLeft[index] <= right && itemRight[index] >= left
+                        && itemTop[index] <= bottom && itemBottom[index] >= top) {
+                    addHit(index);
+                }
+            }
+        }
+        return hitCount;
+    }
+
+    /**
+     * Finds every remaining object whose box touches the given box, edges included.
+     *
+     * @param box The area to search
+     * @return The number of objects found, read with {@link #getHit(int)}
+     */
+    public int query(BoundingBox box) {
+        return query(box.left(), box.top(), box.right(), box.bottom());
+    }
+
+    /**
+     * Gets an object from the last query.
+     *
+     * @param index The position of the result, from 0 to the query's count
+     * @return The object
+     */
+    @SuppressWarnings("unchecked")
+    public T getHit(int index) {
+        return (T) items[hits[index]];
+    }
+
+    /**
+     * Gets the index of an object from the last query, for use with {@link #remove(int)}.
+     *
+     * @param index The position of the result, from 0 to the query's count
+     * @return The object's index in the tree
+     */
+    public int getHitIndex(int index) {
+        return hits[index];
+    }
+
+    /**
+     * Gets the number of objects added to the tree, including removed ones.
+     *
+     * @return The number of objects
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Adds an object index to the hit list, keeping it in the order objects were added.
+     */
+    private void addHit(int index) {
+        int i = hitCount++;
+        while (i > 0 && hits[i - 1] > index) {
+            hits[i] = hits[i - 1];
+            i--;
+        }
+        hits[i] = index;
+    }
+
+    /**
+     * Doubles the storage for added objects.
+     */
+    private void grow() {
+        int capacity = items.length * 2;
+        items = Arrays.copyOf(items, capacity);
+        itemLeft = Arrays.copyOf(itemLeft, capacity);
+        itemTop = Arrays.copyOf(itemTop, capacity);
+        itemRight = Arrays.copyOf(itemRight, capacity);
+        itemBottom = Arrays.copyOf(itemBottom, capacity);
+        removed = Arrays.copyOf(removed, capacity);
+    }
+}
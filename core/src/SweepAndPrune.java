@@ -0,0 +1,211 @@
+import java.util.Arrays;
+
+/**
+ * A one-axis sweep-and-prune broadphase between projectiles and the characters they can hit.
+ * Bullets, bananas and monkeys all move along x, so overlapping x-intervals are a tight filter.
+ * Targets are kept sorted by left edge with an insertion sort, and the projectiles come already
+ * sorted from {@link ProjectileSystem}; both orders change little between ticks, so keeping them
+ * sorted costs close to linear time. A sweep then walks both orders together and reports each
+ * projectile whose x-interval overlaps a target that its kind can hit. A projectile's interval
+ * covers its whole last move, so pairs are not missed when it passes through a target.
+ * Storage is reused between ticks, so a steady-state tick does not allocate.
+ */
+public class SweepAndPrune {
+    private static final int INITIAL_CAPACITY = 16;
+
+    // Targets by id: x-interval, a bit per projectile kind they can be hit by, and whether they take part
+    private double[] targetLeft = new double[INITIAL_CAPACITY];
+    private double[] targetRight = new double[INITIAL_CAPACITY];
+    private int[] targetKinds = new int[INITIAL_CAPACITY];
+    private boolean[] targetActive = new boolean[INITIAL_CAPACITY];
+    private int targetCount = 0;
+
+    // Target ids sorted by left edge, kept from one sweep to the next
+    private int[] targetOrder = new int[INITIAL_CAPACITY];
+
+    // Targets and projectiles the sweep has passed whose intervals may still overlap later ones
+    private int[] openTargets = new int[INITIAL_CAPACITY];
+    private int[] openProjectiles = new int[INITIAL_CAPACITY];
+
+    // Pairs found by the last sweep, each packed as (newest-first projectile rank, target id)
+    private long[] pairs = new long[INITIAL_CAPACITY];
+    private int pairCount = 0;
+
+    /**
+     * Sets a target's x-interval for the next sweep, adding the target if its id is new.
+     * Ids should be small and dense, since storage is sized by the largest id.
+     *
+     * @param id             The target's id
+     * @param box            The target's bounding box
+     * @param projectileKinds A bit (1 << kind) for each kind of projectile that can hit the target
+     */
+    public void setTarget(int id, BoundingBox box, int projectileKinds) {
+        while (id >= targetCount) {
+            addTarget();
+        }
+        targetLeft[id] = box.left();
+        targetRight[id] = box.right();
+        targetKinds[id] = projectileKinds;
+        targetActive[id] = true;
+    }
+
+    /**
+     * Leaves a target out of sweeps until it is set again.
+     *
+     * @param id The target's id
+     */
+    public void removeTarget(int id) {
+        if (id < targetCount) {
+            targetActive[id] = false;
+        }
+    }
+
+    /**
+     * Leaves every target out of sweeps until it is set again, keeping their sorted order.
+     */
+    public void removeAllTargets() {
+        Arrays.fill(targetActive, 0, targetCount, false);
+    }
+
+    /**
+     * Finds every pair of a live projectile and an active target whose x-intervals overlap,
+     * edges included, where the target can be hit by the projectile's kind.
+     * Pairs are ordered from the newest projectile to the oldest, then by target id.
+     *
+     * @param projectiles The projectile system, sorted by its last update
+     * @return The number of pairs found, read with {@link #getPairProjectile(int)} and {@link #getPairTarget(int)}
+     */
+    public int sweep(ProjectileSystem projectiles) {
+        pairCount = 0;
+        sortTargets();
+
+        int projectileCount = projectiles.getSortedCount();
+        if (openProjectiles.length < projectileCount) {
+            openProjectiles = new int[Math.max(projectileCount, openProjectiles.length * 2)];
+        }
+
+        int openTargetCount = 0;
+        int openProjectileCount = 0;
+        int p = 0;
+        int t = 0;
+        while (p < projectileCount || t < targetCount) {
+            int slot = p < projectileCount ? projectiles.getSortedSlot(p) : -1;
+            int target = t < targetCount ? targetOrder[t] : -1;
+
+            if (target < 0 || (slot >= 0 && projectiles.sweptLeft(slot) < targetLeft[target])) {
+                // 1) A projectile starts: drop targets that ended before it, pair it with the rest
+                p++;
+                if (!projectiles.isAlive(slot)) continue;
+
+                double left = projectiles.sweptLeft(slot);
+                int kept = 0;
+                for (int k = 0; k < openTargetCount; k++) {
+                    int open = openTargets[k];
+                    if (targetRight[open] >= left) {
+                        openTargets[kept++] = open;
+                        if ((targetKinds[open] & (1 << projectiles.getKind(slot))) != 0) {
+                            addPair(slot, open);
+                        }
+                    }
+                }
+                openTargetCount = kept;
+                openProjectiles[openProjectileCount++] = slot;
+            } else {
+                // 2) A target starts: drop projectiles that ended before it, pair it with the rest
+                t++;
+                if (!targetActive[target]) continue;
+
+                double left = targetLeft[target];
+                int kept = 0;
+                for (int k = 0; k < openProjectileCount; k++) {
+                    int open = openProjectiles[k];
+                    if (projectiles.sweptRight(open) >= left) {
+                        openProjectiles[kept++] = open;
+                        if ((targetKinds[target] & (1 << projectiles.getKind(open))) != 0) {
+                            addPair(open, target);
+                        }
+                    }
+                }
+                openProjectileCount = kept;
+                openTargets[openTargetCount++] = target;
+            }
+        }
+
+        // 3) Order the pairs newest projectile first, then by target id
+        Arrays.sort(pairs, 0, pairCount);
+        return pairCount;
+    }
+
+    /**
+     * Gets the number of pairs found by the last sweep.
+     *
+     * @return The number of pairs
+     */
+    public int getPairCount() {
+        return pairCount;
+    }
+
+    /**
+     * Gets the projectile of a pair from the last sweep.
+     *
+     * @param index The position of the pair, from 0 to the sweep's count
+     * @return The projectile's slot in the {@link ProjectileSystem}
+     */
+    public int getPairProjectile(int index) {
+        return Integer.MAX_VALUE - (int) (pairs[index] >>> 32);
+    }
+
+    /**
+     * Gets the target of a pair from the last sweep.
+     *
+     * @param index The position of the pair, from 0 to the sweep's count
+     * @return The target's id
+     */
+    public int getPairTarget(int index) {
+        return (int) pairs[index];
+    }
+
+    /**
+     * Records a pair, ranking newer projectiles (higher slots) first.
+     */
+    private void addPair(int slot, int target) {
+        if (pairCount == pairs.length) {
+            pairs = Arrays.copyOf(pairs, pairs.length * 2);
+        }
+        pairs[pairCount++] = ((long) (Integer.MAX_VALUE - slot) << 32) | target;
+    }
+
+    /**
+     * Insertion-sorts the targets by left edge, which is close to linear on last tick's order.
+     */
+    private void sortTargets() {
+        for (int k = 1; k < targetCount; k++) {
+            int target = targetOrder[k];
+            double left = targetLeft[target];
+            int j = k;
+            while (j > 0 && targetLeft[targetOrder[j - 1]] > left) {
+                targetOrder[j] = targetOrder[j - 1];
+                j--;
+            }
+            targetOrder[j] = target;
+        }
+    }
+
+    /**
+     * Adds an inactive target with the next id, growing storage if needed.
+     */
+    private void addTarget() {
+        if (targetCount == targetLeft.length) {
+            int capacity = targetLeft.length * 2;
+            targetLeft = Arrays.copyOf(targetLeft, capacity);
+            targetRight = Arrays.copyOf(targetRight, capacity);
+            targetKinds = Arrays.copyOf(targetKinds, capacity);
+            targetActive = Arrays.copyOf(targetActive, capacity);
+            targetOrder = Arrays.copyOf(targetOrder, capacity);
+            openTargets = Arrays.copyOf(openTargets, capacity);
+        }
+        targetActive[targetCount] = false;
+        targetOrder[targetCount] = targetCount;
+        targetCount++;
+    }
+}
@@ -0,0 +1,104 @@
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * A reusable buffer holding one snapshot of a {@link GameWorld}.
+ * Capturing overwrites the previous snapshot in place, and the buffer only grows when a world
+ * no longer fits, so capturing and restoring the same level over and over does not allocate.
+ */
+public class WorldSnapshot {
+    private static final int INITIAL_CAPACITY = 4096;
+
+    private ByteBuffer buffer;
+    private int size = 0;
+
+    /**
+     * Creates an empty snapshot with room for a typical level.
+     */
+    public WorldSnapshot() {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Creates an empty snapshot with the given starting capacity.
+     *
+     * @param capacity The starting size of the buffer in bytes
+     */
+    public WorldSnapshot(int capacity) {
+        buffer = ByteBuffer.allocate(capacity);
+    }
+
+    /**
+     * Captures a world's state, replacing what was held before.
+     *
+     * @param world The world to capture
+     * @return The size of the snapshot in bytes
+     */
+    public int capture(GameWorld world) {
+        while (true) {
+            buffer.clear();
+            try {
+                size = world.snapshot(buffer);
+                return size;
+            } catch (BufferOverflowException e) {
+                buffer = ByteBuffer.allocate(buffer.capacity() * 2);
+            }
+        }
+    }
+
+    /**
+     * Puts a world back in the captured state. The world must be of the same level.
+     *
+     * @param world The world to restore
+     * @throws IllegalStateException if nothing has been captured yet
+     */
+    public void restore(GameWorld world) {
+        if (size == 0) {
+            throw new IllegalStateException("No snapshot has been captured");
+        }
+        buffer.clear();
+        world.restore(buffer);
+    }
+
+    /**
+     * Gets the size of the captured snapshot.
+     *
+     * @return The number of bytes held, or 0 before the first capture
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Hashes the captured bytes eight at a time into 64 bits, without allocating.
+     *
+     * @return The hash of the snapshot
+     */
+    public long hash() {
+        long hash = size;
+        int i = 0;
+        for (; i + Long.BYTES <= size; i += Long.BYTES) {
+            hash = Long.rotateLeft(hash ^ buffer.getLong(i) * 0x9e3779b97f4a7c15L, 27) * 0xc2b2ae3d27d4eb4fL;
+        }
+        for (; i < size; i++) {
+            hash = Long.rotateLeft(hash ^ buffer.get(i) * 0x9e3779b97f4a7c15L, 27) * 0xc2b2ae3d27d4eb4fL;
+        }
+
+        // Spread every input bit over the whole result
+        hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+        return hash ^ (hash >>> 31);
+    }
+
+    /**
+     * Gets the buffer holding the snapshot, positioned at its start and limited to its end,
+     * for copying it elsewhere.
+     *
+     * @return A read-only view of the snapshot
+     */
+    public ByteBuffer getBytes() {
+        ByteBuffer view = buffer.asReadOnlyBuffer();
+        view.position(0).limit(size);
+        return view;
+    }
+}
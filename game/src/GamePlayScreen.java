@@ -0,0 +1,277 @@
+import bagel.*;
+import java.io.File;
+import java.io.IOException;
+import java.util.Properties;
+
+/**
+ * Abstract class representing a game play screen.
+ * This serves as the parent class for Level1Screen and future Level2Screen.
+ */
+public abstract class GamePlayScreen {
+    // Keys that are sampled when pressed rather than while held
+    private static final int PRESS_KEYS = PlayerInput.JUMP | PlayerInput.SHOOT;
+
+    private final Properties gameProps;
+    private final Properties msgProps;
+
+    // Seed of the level's world, stored in the recording so a replay builds the same world
+    private final long seed;
+
+    // Presses seen on frames that ran no ticks, delivered to the next tick
+    private int pendingPresses = PlayerInput.NONE;
+
+    // Every tick's input, saved when the session leaves the screen
+    private final InputRecording recording;
+
+    // Time-travel debugging: the last world states, or null when turned off
+    private final SnapshotRing history;
+    private final long captureBudgetNanos;
+    private boolean isPaused = false;
+    private int historyIndex;
+    private int pausedFrame;
+    private long lastCaptureNanos = 0;
+    private int overBudgetFrames = 0;
+
+    /**
+     * Constructs a new GamePlayScreen.
+     *
+     * @param gameProps Properties containing game configuration
+     * @param msgProps Properties containing message strings
+     * @param levelNumber The level chosen on the home screen (1 or 2)
+     */
+    public GamePlayScreen(Properties gameProps, Properties msgProps, int levelNumber) {
+        this.gameProps = gameProps;
+        this.msgProps = msgProps;
+        this.seed = Long.parseLong(gameProps.getProperty("gamePlay.seed"));
+        this.recording = new InputRecording(levelNumber, InputRecording.configHash(gameProps), seed);
+
+        // The whole history is allocated here, so its memory is fixed by the settings
+        if (Boolean.parseBoolean(gameProps.getProperty("debug.timeTravel", "false"))) {
+            int seconds = Integer.parseInt(gameProps.getProperty("debug.timeTravel.seconds"));
+            int slotBytes = Integer.parseInt(gameProps.getProperty("debug.timeTravel.slotBytes"));
+            this.history = new SnapshotRing(seconds * GameWorld.TICKS_PER_SECOND, slotBytes);
+            this.captureBudgetNanos = 1000L
+                    * Integer.parseInt(gameProps.getProperty("debug.timeTravel.frameBudgetMicros"));
+        } else {
+            this.history = null;
+            this.captureBudgetNanos = 0;
+        }
+    }
+
+    /**
+     * Gets the game properties.
+     *
+     * @return The game properties
+     */
+    protected Properties getGameProps() {
+        return gameProps;
+    }
+
+    /**
+     * Gets the seed the level's world must be created with, the one the recording stores.
+     *
+     * @return The seed
+     */
+    protected long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the message properties.
+     *
+     * @return The message properties
+     */
+    protected Properties getMsgProps() {
+        return msgProps;
+    }
+
+    /**
+     * Updates the game state and draws the screen.
+     *
+     * @param input The current input state
+     * @param ticks The number of simulation ticks to run this frame
+     * @return true if the screen should transition, false otherwise
+     */
+    public abstract boolean update(Input input, int ticks);
+
+    /**
+     * Advances a world by the given number of ticks using this frame's keyboard state.
+     * Held keys apply to every tick, while a key press is delivered to exactly one tick,
+     * even if this frame runs no ticks at all.
+     * With time travel on, each tick's world state is kept, and the game pauses instead of ending
+     * so the last moments can be stepped through; see {@link #updateTimeTravel}.
+     *
+     * @param world The world to advance
+     * @param input The current input state
+     * @param ticks The number of simulation ticks to run
+     * @return true if the game ended during one of the ticks, false otherwise
+     */
+    protected boolean stepWorld(GameWorld world, Input input, int ticks) {
+        if (history != null && updateTimeTravel(world, input)) {
+            return !isPaused;
+        }
+
+        int keys = KeyboardInput.read(input);
+        pendingPresses |= keys & PRESS_KEYS;
+        int heldKeys = keys & ~PRESS_KEYS;
+
+        long captureNanos = 0;
+        for (int i = 0; i < ticks; i++) {
+            int tickInput = heldKeys | pendingPresses;
+            recording.record(tickInput);
+            boolean isGameEnded = world.step(tickInput);
+            pendingPresses = PlayerInput.NONE;
+
+            if (history != null) {
+                long start = System.nanoTime();
+                history.capture(world);
+                captureNanos += System.nanoTime() - start;
+            }
+            if (isGameEnded) {
+                if (history != null) {
+                    pause(world);
+                    return false;
+                }
+                return true;
+            }
+        }
+
+        if (history != null) {
+            lastCaptureNanos = captureNanos;
+            if (captureNanos > captureBudgetNanos) {
+                overBudgetFrames++;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Handles the time-travel keys. P pauses and resumes; while paused, COMMA and PERIOD step one
+     * tick back and forward, and holding LEFT or RIGHT steps one tick every frame. Resuming drops
+     * the states and inputs after the shown tick, so play continues from there.
+     *
+     * @param world The world being played
+     * @param input The current input state
+     * @return true if this frame is handled here: the game is paused, or was resumed in a state
+     *         where it has already ended, false if the world should be stepped as usual
+     */
+    private boolean updateTimeTravel(GameWorld world, Input input) {
+        if (input.wasPressed(Keys.P)) {
+            if (!isPaused) {
+                pause(world);
+            } else {
+                // 1) Play on from the shown state, forgetting the future that was stepped away from
+                history.truncate(historyIndex + 1);
+                recording.truncate(pausedFrame);
+                isPaused = false;
+                return world.isGameOver() || world.isLevelCompleted();
+            }
+        }
+        if (!isPaused) {
+            return false;
+        }
+
+        // 2) Step through the kept states
+        int target = historyIndex;
+        if (input.wasPressed(Keys.COMMA) || input.isDown(Keys.LEFT)) {
+            target--;
+        }
+        if (input.wasPressed(Keys.PERIOD) || input.isDown(Keys.RIGHT)) {
+            target++;
+        }
+        target = Math.max(0, Math.min(history.size() - 1, target));
+        if (target != historyIndex) {
+            historyIndex = target;
+            history.restore(historyIndex, world);
+            pausedFrame = world.getCurrFrame();
+        }
+        return true;
+    }
+
+    /**
+     * Pauses on the newest kept state, if there is one.
+     */
+    private void pause(GameWorld world) {
+        if (history.size() == 0) {
+            return;
+        }
+        isPaused = true;
+        historyIndex = history.size() - 1;
+        pausedFrame = world.getCurrFrame();
+        pendingPresses = PlayerInput.NONE;
+    }
+
+    /**
+     * Draws the time-travel state below the HUD, if time travel is on.
+     *
+     * @param font The font to draw with
+     * @param x The x-coordinate of the text
+     * @param y The y-coordinate of the text
+     */
+    protected void drawTimeTravelStatus(Font font, double x, double y) {
+        if (history == null) {
+            return;
+        }
+        String state = isPaused
+                ? "PAUSED " + (historyIndex + 1 - history.size()) + " ticks"
+                : "Rewind " + history.size() / GameWorld.TICKS_PER_SECOND + "s";
+        font.drawString(state + "  capture " + lastCaptureNanos / 1000 + "us  over budget "
+                + overBudgetFrames, x, y);
+    }
+
+    /**
+     * Saves the inputs of this session to the directory named by {@code gamePlay.recordingDir},
+     * along with the current score, so it can be replayed by {@code ReplayRunner}.
+     * Does nothing if the property is empty or missing. A failed save is reported but does not stop the game.
+     */
+    public void saveRecording() {
+        String directory = gameProps.getProperty("gamePlay.recordingDir", "");
+        if (directory.isEmpty() || recording.getTickCount() == 0) {
+            return;
+        }
+        if (isPaused) {
+            recording.truncate(pausedFrame);
+        }
+        recording.setFinalScore(getScore());
+        File file = new File(directory, "level" + recording.getLevelNumber() + "-"
+                + System.currentTimeMillis() + ".dkr");
+        try {
+            recording.save(file);
+        } catch (IOException e) {
+            System.err.println("Could not save input recording " + file + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Displays game information like score and time.
+     */
+    public abstract void displayInfo();
+
+    /**
+     * Checks if the level is completed.
+     *
+     * @return true if the level is completed, false otherwise
+     */
+    public abstract boolean isLevelCompleted();
+
+    /**
+     * Checks if the game is over.
+     *
+     * @return true if the game is over, false otherwise
+     */
+    public abstract boolean isGameOver();
+
+    /**
+     * Gets the current score.
+     *
+     * @return The current score
+     */
+    public abstract int getScore();
+
+    /**
+     * Gets the number of seconds left in the level.
+     *
+     * @return The number of seconds left
+     */
+    public abstract int getSecondsLeft();
+}
\ No newline at end of file
@@ -85,7 +85,8 @@ public class HomeScreen {
     }
 
     /**
-     * Gets the level selected by the player.
+     * Gets the level selected by the player. This is all a session's recording keeps of the
+     * home screen, as its level number; see {@link InputRecording}.
      *
      * @return 1 for Level 1 (default), 2 for Level 2
      */
@@ -0,0 +1,40 @@
+import bagel.*;
+
+/**
+ * Translates bagel keyboard state into the {@link PlayerInput} mask the simulation consumes.
+ */
+public class KeyboardInput {
+
+    private KeyboardInput() {
+    }
+
+    /**
+     * Reads the gameplay keys for the current frame.
+     * Movement keys are sampled while held; jump and shoot are sampled when pressed.
+     *
+     * @param input The current mouse/keyboard input.
+     * @return The {@link PlayerInput} mask for this frame.
+     */
+    public static int read(Input input) {
+        int mask = PlayerInput.NONE;
+        if (input.isDown(Keys.LEFT)) {
+            mask |= PlayerInput.LEFT;
+        }
+        if (input.isDown(Keys.RIGHT)) {
+            mask |= PlayerInput.RIGHT;
+        }
+        if (input.isDown(Keys.UP)) {
+            mask |= PlayerInput.UP;
+        }
+        if (input.isDown(Keys.DOWN)) {
+            mask |= PlayerInput.DOWN;
+        }
+        if (input.wasPressed(Keys.SPACE)) {
+            mask |= PlayerInput.JUMP;
+        }
+        if (input.wasPressed(Keys.S)) {
+            mask |= PlayerInput.SHOOT;
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,138 @@
+import bagel.*;
+import java.util.Properties;
+
+/**
+ * Level 2 screen that draws a Level 2 {@link GameWorld} and its HUD.
+ * Handles the second level with advanced mechanics including monkeys, bananas, and bullets.
+ */
+public class Level2Screen extends GamePlayScreen {
+
+    // Simulation and rendering
+    private final GameWorld world;
+    private final WorldRenderer renderer;
+    private final Image background;
+
+    // Display components
+    private final Font STATUS_FONT;
+    private final int SCORE_X;
+    private final int SCORE_Y;
+    private final int DONKEY_HEALTH_X;
+    private final int DONKEY_HEALTH_Y;
+    private static final int BULLET_DISPLAY_DIFF_Y = 30;
+    private static final int TIME_DISPLAY_DIFF_Y = 30;
+    private static final String SCORE_MESSAGE = "SCORE ";
+    private static final String TIME_MESSAGE = "Time Left ";
+    private static final String HEALTH_MESSAGE = "Donkey Health ";
+    private static final String BULLETS_MESSAGE = "Bullets left ";
+
+    /**
+     * Constructs a new Level 2 screen and its world.
+     *
+     * @param gameProps Properties containing game configuration
+     * @param msgProps Properties containing message strings
+     */
+    public Level2Screen(Properties gameProps, Properties msgProps) {
+        super(gameProps, msgProps, 2);
+
+        // Create the Level 2 world and its renderer
+        this.world = new GameWorld(gameProps, 2, getSeed());
+        this.renderer = new WorldRenderer();
+
+        // Load display properties
+        this.STATUS_FONT = new Font(
+                gameProps.getProperty("font"),
+                Integer.parseInt(gameProps.getProperty("gamePlay.score.fontSize"))
+        );
+        this.SCORE_X = Integer.parseInt(gameProps.getProperty("gamePlay.score.x"));
+        this.SCORE_Y = Integer.parseInt(gameProps.getProperty("gamePlay.score.y"));
+        String[] healthCoords = gameProps.getProperty("gamePlay.donkeyhealth.coords").split(",");
+        this.DONKEY_HEALTH_X = Integer.parseInt(healthCoords[0].trim());
+        this.DONKEY_HEALTH_Y = Integer.parseInt(healthCoords[1].trim());
+        this.background = new Image(gameProps.getProperty("backgroundImage"));
+    }
+
+    /**
+     * Advances the Level 2 world by this frame's ticks and draws it.
+     *
+     * @param input The current player input.
+     * @param ticks The number of simulation ticks to run this frame.
+     * @return {@code true} if the game ends, {@code false} otherwise.
+     */
+    @Override
+    public boolean update(Input input, int ticks) {
+        // Advance the simulation at the fixed tick rate
+        boolean isGameEnded = stepWorld(world, input, ticks);
+
+        // Draw background and game objects
+        background.drawFromTopLeft(0, 0);
+        renderer.draw(world);
+
+        // Display game information
+        displayInfo();
+
+        return isGameEnded;
+    }
+
+    /**
+     * Displays the player's score, time left, donkey health, and bullet count on screen.
+     */
+    @Override
+    public void displayInfo() {
+        STATUS_FONT.drawString(SCORE_MESSAGE + world.getScore(), SCORE_X, SCORE_Y);
+
+        // Time left in seconds
+        int secondsLeft = getSecondsLeft();
+        int TIME_Y = SCORE_Y + TIME_DISPLAY_DIFF_Y;
+        STATUS_FONT.drawString(TIME_MESSAGE + secondsLeft, SCORE_X, TIME_Y);
+        drawTimeTravelStatus(STATUS_FONT, SCORE_X, TIME_Y + TIME_DISPLAY_DIFF_Y);
+
+        // Display donkey health
+        int donkeyHealth = world.getGameObjects().getDonkey().getHealth();
+        STATUS_FONT.drawString(HEALTH_MESSAGE + donkeyHealth, DONKEY_HEALTH_X, DONKEY_HEALTH_Y);
+
+        // Display bullets count 30 pixels below Donkey health
+        int BULLETS_Y = DONKEY_HEALTH_Y + BULLET_DISPLAY_DIFF_Y;
+        int[] bulletCounter = world.getGameObjects().getBulletCounter();
+        STATUS_FONT.drawString(BULLETS_MESSAGE + bulletCounter[0], DONKEY_HEALTH_X, BULLETS_Y);
+    }
+
+    /**
+     * Checks whether the level is completed.
+     *
+     * @return {@code true} if the level is completed, {@code false} otherwise.
+     */
+    @Override
+    public boolean isLevelCompleted() {
+        return world.isLevelCompleted();
+    }
+
+    /**
+     * Gets the current score.
+     *
+     * @return The current score
+     */
+    @Override
+    public int getScore() {
+        return world.getScore();
+    }
+
+    /**
+     * Gets the number of seconds left in the level.
+     *
+     * @return The number of seconds left
+     */
+    @Override
+    public int getSecondsLeft() {
+        return world.getSecondsLeft();
+    }
+
+    /**
+     * Checks if the game is over.
+     *
+     * @return true if the game is over, false otherwise
+     */
+    @Override
+    public boolean isGameOver() {
+        return world.isGameOver();
+    }
+}
\ No newline at end of file
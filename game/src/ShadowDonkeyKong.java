@@ -18,6 +18,10 @@ public class ShadowDonkeyKong extends AbstractGame {
     private GamePlayScreen gamePlayScreen;
     private GameEndScreen gameEndScreen;
 
+    // Fixed-timestep simulation clock
+    private final FixedTimestep clock;
+    private long lastFrameNanos;
+
     public static double screenWidth;
     public static double screenHeight;
 
@@ -41,6 +45,9 @@ public class ShadowDonkeyKong extends AbstractGame {
         screenHeight = Integer.parseInt(gameProps.getProperty("window.height"));
 
         homeScreen = new HomeScreen(GAME_PROPS, MESSAGE_PROPS);
+        clock = new FixedTimestep(GameWorld.TICKS_PER_SECOND,
+                Integer.parseInt(gameProps.getProperty("gamePlay.maxTicksPerFrame")),
+                Double.parseDouble(gameProps.getProperty("gamePlay.timeScale")));
     }
 
     /**
@@ -50,9 +57,17 @@ public class ShadowDonkeyKong extends AbstractGame {
     @Override
     protected void update(Input input) {
         if (input.wasPressed(Keys.ESCAPE)) {
+            if (gamePlayScreen != null) {
+                gamePlayScreen.saveRecording();
+            }
             Window.close();
         }
 
+        // Measure real time for the simulation clock
+        long now = System.nanoTime();
+        double elapsedSeconds = (now - lastFrameNanos) / 1e9;
+        lastFrameNanos = now;
+
         // Home Screen
         if (gamePlayScreen == null && gameEndScreen == null) {
             if (homeScreen.update(input)) {
@@ -64,6 +79,7 @@ public class ShadowDonkeyKong extends AbstractGame {
                     // Start Level 1 (default)
                     gamePlayScreen = new Level1Screen(GAME_PROPS, MESSAGE_PROPS);
                 }
+                clock.reset();
             }
         }
         // Gameplay Screen
@@ -71,8 +87,9 @@ public class ShadowDonkeyKong extends AbstractGame {
             // Handle level-specific logic using unified method
             handleLevelLogic(gamePlayScreen, input);
 
-            // Common gameplay update logic
-            if (gamePlayScreen != null && gamePlayScreen.update(input)) {
+            // Common gameplay update logic, run at the fixed tick rate
+            int ticks = clock.advance(elapsedSeconds);
+            if (gamePlayScreen != null && gamePlayScreen.update(input, ticks)) {
                 handleGameEnd();
             }
         }
@@ -86,19 +103,12 @@ public class ShadowDonkeyKong extends AbstractGame {
      * Handles level-specific logic and transitions for both Level 1 and Level 2.
      */
     private void handleLevelLogic(GamePlayScreen level, Input input) {
-        // Cast to specific level types to access isGameOver() method
         boolean isCompleted = level.isLevelCompleted();
-        boolean isGameOver = false;
-
-        // Check game over status based on level type
-        if (level instanceof Level1Screen) {
-            isGameOver = ((Level1Screen) level).isGameOver();
-        } else if (level instanceof Level2Screen) {
-            isGameOver = ((Level2Screen) level).isGameOver();
-        }
+        boolean isGameOver = level.isGameOver();
 
         // If level is completed and SPACE is pressed, go to end screen
         if (isCompleted && input.wasPressed(Keys.SPACE)) {
+            level.saveRecording();
             createEndScreen(true, level.getScore(), level.getSecondsLeft());
             gamePlayScreen = null;
             return;
@@ -106,6 +116,7 @@ public class ShadowDonkeyKong extends AbstractGame {
 
         // If game over and SPACE is pressed, go to end screen
         if (isGameOver && input.wasPressed(Keys.SPACE)) {
+            level.saveRecording();
             createEndScreen(false, level.getScore(), level.getSecondsLeft());
             gamePlayScreen = null;
             return;
@@ -119,6 +130,7 @@ public class ShadowDonkeyKong extends AbstractGame {
         boolean isWon = gamePlayScreen.isLevelCompleted();
         int finalScore = gamePlayScreen.getScore();
         int timeRemaining = gamePlayScreen.getSecondsLeft();
+        gamePlayScreen.saveRecording();
 
         createEndScreen(isWon, finalScore, timeRemaining);
         gamePlayScreen = null;
@@ -158,6 +170,15 @@ public class ShadowDonkeyKong extends AbstractGame {
         homeScreen = new HomeScreen(GAME_PROPS, MESSAGE_PROPS);
     }
 
+    /**
+     * Gets the simulation clock, e.g. to change the time scale for fast-forward or slow motion.
+     *
+     * @return The fixed-timestep clock
+     */
+    public FixedTimestep getClock() {
+        return clock;
+    }
+
     /**
      * Retrieves the width of the game screen.
      *
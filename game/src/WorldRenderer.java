@@ -0,0 +1,145 @@
+import bagel.*;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Draws the state of a {@link GameWorld} using bagel.
+ * Images are loaded once per sprite path and shared by every entity that uses them.
+ */
+public class WorldRenderer {
+    private final Map<String, Image> images = new HashMap<>();
+    private final DrawOptions defeatedOptions = new DrawOptions();
+
+    /**
+     * Draws every game object in the world, in the same order they are updated.
+     *
+     * @param world The world to draw
+     */
+    public void draw(GameWorld world) {
+        GameObjectManager objects = world.getGameObjects();
+
+        for (Platform platform : objects.getPlatforms()) {
+            if (platform != null) {
+                draw(Platform.PLATFORM_IMAGE, platform.getX(), platform.getY());
+            }
+        }
+
+        EntityStore entities = objects.getEntities();
+        PhysicsWorld physics = objects.getPhysics();
+        for (int i = 0; i < entities.getArchetypeCount(); i++) {
+            EntityStore.Archetype archetype = entities.getArchetype(i);
+            if (archetype.has(EntityStore.LADDER)) {
+                for (int row = 0; row < archetype.size(); row++) {
+                    int body = archetype.getBody(row);
+                    draw(Ladder.LADDER_IMAGE, physics.getX(body), physics.getY(body));
+                }
+            }
+        }
+
+        Mario mario = objects.getMario();
+        draw(mario.getSpritePath(), mario.getX(), mario.getY());
+
+        if (objects.isLevel2()) {
+            drawProjectiles(objects.getProjectiles(), ProjectileSystem.BULLET);
+        }
+
+        drawDonkey(objects.getDonkey());
+        drawCollectibles(entities, EntityStore.HAMMER);
+
+        if (objects.isLevel2()) {
+            drawCollectibles(entities, EntityStore.BLASTER);
+            drawMonkeys(entities);
+            drawProjectiles(objects.getProjectiles(), ProjectileSystem.BANANA);
+        }
+
+        drawBarrels(entities, physics);
+    }
+
+    /**
+     * Draws the barrels; destroyed barrels have left the store.
+     */
+    private void drawBarrels(EntityStore entities, PhysicsWorld physics) {
+        for (int i = 0; i < entities.getArchetypeCount(); i++) {
+            EntityStore.Archetype archetype = entities.getArchetype(i);
+            if (!archetype.has(EntityStore.COLLIDER)) {
+                continue;
+            }
+            for (int row = 0; row < archetype.size(); row++) {
+                if (archetype.getLayer(row) == CollisionLayers.BARREL) {
+                    int body = archetype.getBody(row);
+                    draw(Barrel.BARREL_IMAGE, physics.getX(body), physics.getY(body));
+                }
+            }
+        }
+    }
+
+    /**
+     * Draws Donkey, flashing during the hit cooldown.
+     */
+    private void drawDonkey(Donkey donkey) {
+        int hitCooldown = donkey.getHitCooldown();
+        if (!donkey.isDefeated() && (hitCooldown <= 0 || hitCooldown % 4 >= 2)) {
+            // Flash every few frames during cooldown
+            draw(Donkey.DONKEY_IMAGE, donkey.getX(), donkey.getY());
+        } else if (donkey.isDefeated()) {
+            getImage(Donkey.DONKEY_IMAGE).draw(donkey.getX(), donkey.getY(), defeatedOptions);
+        }
+        // Not visible during part of the hit cooldown (flashing effect)
+    }
+
+    /**
+     * Draws the collectibles with a pickup component; collected ones have left the store.
+     */
+    private void drawCollectibles(EntityStore entities, int component) {
+        for (int i = 0; i < entities.getArchetypeCount(); i++) {
+            EntityStore.Archetype archetype = entities.getArchetype(i);
+            if (!archetype.has(component)) {
+                continue;
+            }
+            for (int row = 0; row < archetype.size(); row++) {
+                Collectible collectible = (Collectible) archetype.getEntity(row);
+                draw(collectible.getSpritePath(), collectible.getX(), collectible.getY());
+            }
+        }
+    }
+
+    /**
+     * Draws the patrolling monkeys; destroyed monkeys have left the store.
+     */
+    private void drawMonkeys(EntityStore entities) {
+        for (int i = 0; i < entities.getArchetypeCount(); i++) {
+            EntityStore.Archetype archetype = entities.getArchetype(i);
+            if (!archetype.has(EntityStore.PATROL)) {
+                continue;
+            }
+            for (int row = 0; row < archetype.size(); row++) {
+                Monkey monkey = (Monkey) archetype.getEntity(row);
+                draw(monkey.getSpritePath(), monkey.getX(), monkey.getY());
+            }
+        }
+    }
+
+    /**
+     * Draws every live projectile of one kind.
+     */
+    private void drawProjectiles(ProjectileSystem projectiles, int kind) {
+        for (int i = 0; i < projectiles.size(); i++) {
+            if (projectiles.isAlive(i) && projectiles.getKind(i) == kind) {
+                draw(projectiles.getSpritePath(i), projectiles.getX(i), projectiles.getY(i));
+            }
+        }
+    }
+
+    private void draw(String spritePath, double x, double y) {
+        getImage(spritePath).draw(x, y);
+    }
+
+    private Image getImage(String spritePath) {
+        Image image = images.get(spritePath);
+        if (image == null) {
+            image = new Image(spritePath);
+            images.put(spritePath, image);
+        }
+        return image;
+    }
+}